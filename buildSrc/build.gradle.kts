@@ -9,6 +9,8 @@ repositories {
 dependencies {
     implementation("com.gradleup.shadow:shadow-gradle-plugin:9.3.2")
     implementation("net.minecrell:plugin-yml:0.6.0")
+    implementation("me.champeau.jmh:jmh-gradle-plugin:0.7.3")
+    implementation("io.github.classgraph:classgraph:4.8.184")
 }
 
 sourceSets {
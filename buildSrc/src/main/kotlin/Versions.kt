@@ -32,4 +32,6 @@ object Versions {
     const val POSTGRESQL_JDBC = "42.7.8"
     const val H2_JDBC = "2.4.240"
     const val MSSQL_JDBC = "13.2.1.jre11"
+
+    const val JMH = "1.37"
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+import io.github.classgraph.AnnotationEnumValue
+import io.github.classgraph.ClassGraph
+
+plugins {
+    `java-library`
+}
+
+abstract class GenerateComponentIndexTask : DefaultTask() {
+
+    @get:Classpath
+    abstract val classesDirs: ConfigurableFileCollection
+
+    @get:Input
+    abstract val basePackage: Property<String>
+
+    @get:Input
+    abstract val annotationsPackage: Property<String>
+
+    @get:OutputDirectory
+    abstract val outputDir: DirectoryProperty
+
+    @TaskAction
+    fun generate() {
+        val annotationsPrefix = annotationsPackage.get() + "."
+        val lines = mutableListOf<String>()
+
+        ClassGraph()
+            .overrideClasspath(classesDirs.files)
+            .enableAnnotationInfo()
+            .acceptPackages(basePackage.get())
+            .scan()
+            .use { scan ->
+                for (classInfo in scan.allStandardClasses) {
+                    if (classInfo.isAbstract) {
+                        continue
+                    }
+
+                    for (annotation in classInfo.annotationInfo) {
+                        if (!annotation.name.startsWith(annotationsPrefix)) {
+                            continue
+                        }
+
+                        // includes the default values declared on the annotation
+                        val values = annotation.parameterValues
+                        val priority = (values.getValue("priority") as? AnnotationEnumValue)?.valueName ?: ""
+                        val order = (values.getValue("order") as? Int)?.toString() ?: ""
+
+                        lines += "${classInfo.name}|${annotation.name}|$priority|$order"
+                    }
+                }
+            }
+
+        lines.sort()
+
+        val file = outputDir.file("META-INF/playtime/components.index").get().asFile
+        file.parentFile.mkdirs()
+        file.writeText(
+            "# class|annotation|priority|order\n" + lines.joinToString("\n", postfix = "\n")
+        )
+    }
+}
+
+val generateComponentIndex = tasks.register<GenerateComponentIndexTask>("generateComponentIndex") {
+    classesDirs.from(tasks.compileJava.flatMap { it.destinationDirectory })
+
+    basePackage.set("com.github.imdmk.playtime")
+    annotationsPackage.set("com.github.imdmk.playtime.core.injector.annotations")
+
+    outputDir.set(layout.buildDirectory.dir("generated/component-index"))
+}
+
+sourceSets.main {
+    output.dir(mapOf("builtBy" to generateComponentIndex), generateComponentIndex.flatMap { it.outputDir })
+}
@@ -0,0 +1,21 @@
+plugins {
+    `java-library`
+    id("me.champeau.jmh")
+}
+
+jmh {
+    jmhVersion.set(Versions.JMH)
+
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    failOnError.set(true)
+
+    // run a subset with -PjmhIncludes=DurationFormatterBenchmark
+    providers.gradleProperty("jmhIncludes").orNull?.let {
+        includes.set(it.split(","))
+    }
+
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
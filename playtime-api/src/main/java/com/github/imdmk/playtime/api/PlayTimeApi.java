@@ -1,11 +1,27 @@
 package com.github.imdmk.playtime.api;
 
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 public interface PlayTimeApi {
 
     CompletableFuture<PlayTime> getTime(UUID uuid);
+
+    /**
+     * Sets the playtime of a user, completing once it was saved.
+     */
     CompletableFuture<Void> setTime(UUID uuid, PlayTime time);
 
+    /**
+     * Sets the playtime of every stored user in one batch, completing once all of them were saved.
+     *
+     * @return the uuids that have no stored user and were skipped
+     */
+    CompletableFuture<Set<UUID>> setTimes(Map<UUID, PlayTime> times);
+
+    OptionalInt getRank(UUID uuid);
+
 }
@@ -0,0 +1,35 @@
+package com.github.imdmk.playtime.api.event;
+
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Called off the main thread once per batch of playtime changes, for listeners that do not need the main thread.
+ */
+public final class AsyncPlayTimeBatchChangedEvent extends PlayTimeBatchEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+    private static final boolean ASYNC = true;
+
+    public AsyncPlayTimeBatchChangedEvent(
+            @NotNull UUID[] playerIds,
+            long[] oldMillis,
+            long[] newMillis
+    ) {
+        super(ASYNC, playerIds, oldMillis, newMillis);
+    }
+
+    @NotNull
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    @NotNull
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+}
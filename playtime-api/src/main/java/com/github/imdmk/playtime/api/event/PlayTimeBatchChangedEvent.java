@@ -0,0 +1,35 @@
+package com.github.imdmk.playtime.api.event;
+
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Called on the main thread once per batch of playtime changes.
+ */
+public final class PlayTimeBatchChangedEvent extends PlayTimeBatchEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+    private static final boolean ASYNC = false;
+
+    public PlayTimeBatchChangedEvent(
+            @NotNull UUID[] playerIds,
+            long[] oldMillis,
+            long[] newMillis
+    ) {
+        super(ASYNC, playerIds, oldMillis, newMillis);
+    }
+
+    @NotNull
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    @NotNull
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+}
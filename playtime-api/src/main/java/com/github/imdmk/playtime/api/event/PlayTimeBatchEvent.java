@@ -0,0 +1,62 @@
+package com.github.imdmk.playtime.api.event;
+
+import com.github.imdmk.playtime.api.PlayTime;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Playtime changes applied together, e.g. by a reset or an import.
+ * Entries are stored as parallel arrays, index {@code i} describes one player.
+ */
+public abstract class PlayTimeBatchEvent extends Event {
+
+    private final UUID[] playerIds;
+    private final long[] oldMillis;
+    private final long[] newMillis;
+
+    protected PlayTimeBatchEvent(
+            boolean async,
+            @NotNull UUID[] playerIds,
+            long[] oldMillis,
+            long[] newMillis
+    ) {
+        super(async);
+        if (playerIds.length != oldMillis.length || playerIds.length != newMillis.length) {
+            throw new IllegalArgumentException("Batch arrays must have the same length");
+        }
+
+        this.playerIds = playerIds;
+        this.oldMillis = oldMillis;
+        this.newMillis = newMillis;
+    }
+
+    public int size() {
+        return playerIds.length;
+    }
+
+    @NotNull
+    public UUID getPlayerId(int index) {
+        return playerIds[index];
+    }
+
+    public long getOldMillis(int index) {
+        return oldMillis[index];
+    }
+
+    public long getNewMillis(int index) {
+        return newMillis[index];
+    }
+
+    @NotNull
+    public PlayTime getOldTime(int index) {
+        return PlayTime.ofMillis(oldMillis[index]);
+    }
+
+    @NotNull
+    public PlayTime getNewTime(int index) {
+        return PlayTime.ofMillis(newMillis[index]);
+    }
+
+}
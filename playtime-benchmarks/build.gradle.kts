@@ -0,0 +1,11 @@
+plugins {
+    `playtime-java`
+    `playtime-repositories`
+    `playtime-jmh`
+}
+
+dependencies {
+    jmhImplementation(project(":playtime-core"))
+    jmhImplementation("org.spigotmc:spigot-api:${Versions.SPIGOT_API}")
+    jmhImplementation("com.h2database:h2:${Versions.H2_JDBC}")
+}
@@ -0,0 +1,75 @@
+package com.github.imdmk.playtime.core.feature.playtime;
+
+import com.github.imdmk.playtime.api.PlayTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// half of the users are online (pinned tier), the rest live in the bounded offline tier
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlayTimeUserCacheBenchmark {
+
+    @Param({"200", "2000"})
+    public int users;
+
+    private PlayTimeUserCache cache;
+    private PlayTimeUser[] population;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        PlayTimeUserConfig config = new PlayTimeUserConfig();
+        config.offlineCacheMaximumSize = users;
+
+        cache = new PlayTimeUserCache(config);
+        population = new PlayTimeUser[users];
+
+        for (int i = 0; i < users; i++) {
+            PlayTimeUser user = new PlayTimeUser(UUID.randomUUID(), "player" + i, PlayTime.ofMillis(i * 1_000L));
+            if (i % 2 == 0) {
+                cache.markOnline(user.getUuid());
+            }
+
+            cache.put(user);
+            population[i] = user;
+        }
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(6)
+    public PlayTimeUser readHeavyGet() {
+        return cache.getByUuid(pick().getUuid());
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(2)
+    public void readHeavyPut() {
+        cache.put(pick());
+    }
+
+    @Benchmark
+    @Group("byName")
+    @GroupThreads(4)
+    public PlayTimeUser byNameGet() {
+        return cache.getByName(pick().getName());
+    }
+
+    private PlayTimeUser pick() {
+        return population[ThreadLocalRandom.current().nextInt(population.length)];
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.imdmk.playtime.core.feature.playtime.repository;
+
+import com.github.imdmk.playtime.api.PlayTime;
+import com.github.imdmk.playtime.core.feature.playtime.PlayTimeUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlayTimeUserEntityMapperBenchmark {
+
+    private final PlayTimeUserEntityMapper mapper = new PlayTimeUserEntityMapper();
+
+    private PlayTimeUser user;
+    private PlayTimeUserEntity entity;
+
+    @Setup
+    public void setup() {
+        user = new PlayTimeUser(UUID.randomUUID(), "Notch", PlayTime.ofMillis(97_445_123L));
+        entity = mapper.toEntity(user);
+    }
+
+    @Benchmark
+    public PlayTimeUserEntity toEntity() {
+        return mapper.toEntity(user);
+    }
+
+    @Benchmark
+    public PlayTimeUser toDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public PlayTimeUser roundTrip() {
+        return mapper.toDomain(mapper.toEntity(user));
+    }
+}
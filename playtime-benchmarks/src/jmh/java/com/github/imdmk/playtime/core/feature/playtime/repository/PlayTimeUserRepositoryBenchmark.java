@@ -0,0 +1,147 @@
+package com.github.imdmk.playtime.core.feature.playtime.repository;
+
+import com.github.imdmk.playtime.api.PlayTime;
+import com.github.imdmk.playtime.core.database.DatabaseConfig;
+import com.github.imdmk.playtime.core.database.DatabaseManagerImpl;
+import com.github.imdmk.playtime.core.database.DatabaseMode;
+import com.github.imdmk.playtime.core.database.repository.RepositoryBootstrap;
+import com.github.imdmk.playtime.core.database.repository.RepositoryMode;
+import com.github.imdmk.playtime.core.feature.playtime.PlayTimeUser;
+import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// both implementations run against the same embedded H2 file database, so the difference is the mapping layer
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlayTimeUserRepositoryBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final int BATCH_SIZE = 100;
+    private static final int TOP_LIMIT = 10;
+
+    @Param({"ORMLITE", "JDBC"})
+    public RepositoryMode repositoryMode;
+
+    private PlayTimeUserRepository repository;
+    private List<PlayTimeUser> users;
+    private List<PlayTimeUser> batch;
+
+    @Setup
+    public void setup() throws Exception {
+        File dataFolder = Files.createTempDirectory("playtime-jmh").toFile();
+        dataFolder.deleteOnExit();
+
+        DatabaseConfig config = new DatabaseConfig();
+        config.databaseMode = DatabaseMode.H2;
+        config.databaseRepositoryMode = repositoryMode;
+
+        PluginLogger logger = new NoopLogger();
+        DatabaseManagerImpl databaseManager = new DatabaseManagerImpl(dataFolder, logger, config);
+        databaseManager.start();
+
+        RepositoryBootstrap bootstrap = repositoryMode == RepositoryMode.JDBC
+                ? new PlayTimeUserRepositoryJdbc(logger, databaseManager, config)
+                : new PlayTimeUserRepositoryOrmLite(logger, databaseManager, config);
+        bootstrap.start();
+        repository = (PlayTimeUserRepository) bootstrap;
+
+        users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(new PlayTimeUser(UUID.randomUUID(), "player" + i, PlayTime.ofMillis(i * 60_000L)));
+        }
+
+        for (int from = 0; from < USERS; from += BATCH_SIZE) {
+            repository.saveAll(users.subList(from, from + BATCH_SIZE)).join();
+        }
+
+        batch = List.copyOf(users.subList(0, BATCH_SIZE));
+    }
+
+    @Benchmark
+    public PlayTimeUser save() {
+        PlayTimeUser user = randomUser();
+        return repository.save(new PlayTimeUser(user.getUuid(), user.getName(), PlayTime.ofMillis(System.nanoTime()))).join();
+    }
+
+    @Benchmark
+    public Void saveAll() {
+        return repository.saveAll(batch).join();
+    }
+
+    @Benchmark
+    public PlayTimeUser findByUuid() {
+        return repository.findByUuid(randomUser().getUuid()).join();
+    }
+
+    @Benchmark
+    public List<PlayTimeUser> findTopByPlayTime() {
+        return repository.findTopByPlayTime(TOP_LIMIT).join();
+    }
+
+    private PlayTimeUser randomUser() {
+        return users.get(ThreadLocalRandom.current().nextInt(USERS));
+    }
+
+    private static final class NoopLogger implements PluginLogger {
+
+        @Override
+        public void info(String message) {
+        }
+
+        @Override
+        public void info(String message, Object... args) {
+        }
+
+        @Override
+        public void warn(String message) {
+        }
+
+        @Override
+        public void warn(String message, Object... args) {
+        }
+
+        @Override
+        public void warn(Throwable throwable) {
+        }
+
+        @Override
+        public void warn(Throwable throwable, String message, Object... args) {
+        }
+
+        @Override
+        public void error(String message) {
+        }
+
+        @Override
+        public void error(String message, Object... args) {
+        }
+
+        @Override
+        public void error(Throwable throwable) {
+        }
+
+        @Override
+        public void error(Throwable throwable, String message, Object... args) {
+        }
+
+        @Override
+        public void error(Throwable throwable, String message) {
+        }
+    }
+}
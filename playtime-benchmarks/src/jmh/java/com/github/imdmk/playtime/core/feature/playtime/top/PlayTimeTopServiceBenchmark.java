@@ -0,0 +1,215 @@
+package com.github.imdmk.playtime.core.feature.playtime.top;
+
+import com.github.imdmk.playtime.api.PlayTime;
+import com.github.imdmk.playtime.core.feature.playtime.PlayTimeUser;
+import com.github.imdmk.playtime.core.feature.playtime.repository.PlayTimeUserRepository;
+import com.github.imdmk.playtime.core.feature.playtime.top.gui.PlayTimeTopGuiConfig;
+import com.github.imdmk.playtime.core.feature.playtime.top.gui.SkullProfileCache;
+import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
+import com.github.imdmk.playtime.core.platform.scheduler.TaskScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// the rank index is never seeded here, so every call is served from the warm snapshot cache
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlayTimeTopServiceBenchmark {
+
+    @Param({"10", "50"})
+    public int displayLimit;
+
+    private PlayTimeTopService service;
+
+    @Setup
+    public void setup() {
+        PlayTimeTopConfig config = new PlayTimeTopConfig();
+        PluginLogger logger = new NoopLogger();
+        PlayTimeUserRepository repository = new FixedTopRepository(config.topUsersQueryLimit);
+
+        PlayTimeTopGuiConfig guiConfig = new PlayTimeTopGuiConfig();
+        guiConfig.skullPrefetchEnabled = false;
+
+        service = new PlayTimeTopService(
+                logger,
+                new NoopScheduler(),
+                new PlayTimeTopCache(new SkullProfileCache(null, guiConfig)),
+                config,
+                new PlayTimeRankIndex(logger, config, repository),
+                repository
+        );
+
+        service.getTopForDisplay(displayLimit).join();
+    }
+
+    @Benchmark
+    public List<PlayTimeUser> getTopForDisplay() {
+        return service.getTopForDisplay(displayLimit).join();
+    }
+
+    private static final class FixedTopRepository implements PlayTimeUserRepository {
+
+        private final List<PlayTimeUser> top;
+
+        private FixedTopRepository(int size) {
+            List<PlayTimeUser> users = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                users.add(new PlayTimeUser(UUID.randomUUID(), "player" + i, PlayTime.ofMillis((size - i) * 60_000L)));
+            }
+            this.top = List.copyOf(users);
+        }
+
+        @Override
+        public CompletableFuture<List<PlayTimeUser>> findTopByPlayTime(int limit) {
+            return CompletableFuture.completedFuture(top.subList(0, Math.min(limit, top.size())));
+        }
+
+        @Override
+        public CompletableFuture<List<PlayTimeUser>> findAll() {
+            return CompletableFuture.completedFuture(top);
+        }
+
+        @Override
+        public CompletableFuture<PlayTimeUser> findByUuid(UUID uuid) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<PlayTimeUser> findByName(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<List<PlayTimeUser>> findByUuids(Collection<UUID> uuids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Void> resetAllPlayTimes() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Boolean> deleteByUuid(UUID uuid) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<PlayTimeUser> save(PlayTimeUser user) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Void> saveAll(Collection<PlayTimeUser> users) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class NoopScheduler implements TaskScheduler {
+
+        @Override
+        public BukkitTask runSync(Runnable runnable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BukkitTask runSyncIfNeeded(Runnable runnable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BukkitTask runAsync(Runnable runnable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BukkitTask runLaterAsync(Runnable runnable, Duration delay) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BukkitTask runLaterSync(Runnable runnable, Duration delay) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BukkitTask runTimerSync(Runnable runnable, Duration delay, Duration period) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BukkitTask runTimerAsync(Runnable runnable, Duration delay, Duration period) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void cancelTask(int taskId) {
+        }
+
+        @Override
+        public void cancelAllTasks() {
+        }
+    }
+
+    private static final class NoopLogger implements PluginLogger {
+
+        @Override
+        public void info(String message) {
+        }
+
+        @Override
+        public void info(String message, Object... args) {
+        }
+
+        @Override
+        public void warn(String message) {
+        }
+
+        @Override
+        public void warn(String message, Object... args) {
+        }
+
+        @Override
+        public void warn(Throwable throwable) {
+        }
+
+        @Override
+        public void warn(Throwable throwable, String message, Object... args) {
+        }
+
+        @Override
+        public void error(String message) {
+        }
+
+        @Override
+        public void error(String message, Object... args) {
+        }
+
+        @Override
+        public void error(Throwable throwable) {
+        }
+
+        @Override
+        public void error(Throwable throwable, String message, Object... args) {
+        }
+
+        @Override
+        public void error(Throwable throwable, String message) {
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.imdmk.playtime.core.injector.subscriber;
+
+import com.github.imdmk.playtime.core.injector.subscriber.event.SubscribeEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LocalPublisherBenchmark {
+
+    @Param({"1", "8"})
+    public int subscribers;
+
+    private LocalPublisher publisher;
+    private Counter[] counters;
+    private CounterEvent event;
+
+    @Setup
+    public void setup() {
+        // every subscriber is synchronous and only takes the event, so neither injector nor logger is used
+        publisher = new LocalPublisher(null, null);
+        counters = new Counter[subscribers];
+        for (int i = 0; i < subscribers; i++) {
+            counters[i] = new Counter();
+            publisher.subscribe(counters[i]);
+        }
+        event = new CounterEvent();
+    }
+
+    @Benchmark
+    public CounterEvent publish() {
+        return publisher.publish(event);
+    }
+
+    @Benchmark
+    public CounterEvent direct() {
+        for (Counter counter : counters) {
+            counter.onEvent(event);
+        }
+        return event;
+    }
+
+    public static final class CounterEvent extends SubscribeEvent {
+    }
+
+    public static final class Counter {
+
+        private long count;
+
+        @Subscribe(event = CounterEvent.class)
+        private void onEvent(CounterEvent event) {
+            count++;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.imdmk.playtime.core.platform.adventure;
+
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// mirrors a single leaderboard entry of the top GUI
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AdventureFormatterBenchmark {
+
+    private Component name;
+    private List<Component> lore;
+    private AdventurePlaceholders placeholders;
+
+    private AdventureTemplate nameTemplate;
+    private List<AdventureTemplate> loreTemplate;
+    private Component[] values;
+
+    @Setup
+    public void setup() {
+        name = AdventureComponents.notItalic("<dark_gray>• <yellow>#{PLAYER_POSITION} <gray>- <red>{PLAYER_NAME}");
+        lore = AdventureComponents.notItalic(
+                " ",
+                "<dark_gray>▸ <gray>PlayTime: <red>{PLAYER_PLAYTIME}",
+                " "
+        );
+        placeholders = AdventurePlaceholders.builder()
+                .with("{PLAYER_NAME}", "Notch")
+                .with("{PLAYER_POSITION}", 1)
+                .with("{PLAYER_PLAYTIME}", "1 day, 3 hours, 4 minutes and 5 seconds")
+                .build();
+
+        String[] keys = {"{PLAYER_NAME}", "{PLAYER_POSITION}", "{PLAYER_PLAYTIME}"};
+        nameTemplate = AdventureTemplate.compile(name, keys);
+        loreTemplate = AdventureTemplate.compile(lore, keys);
+        values = new Component[] {
+                Component.text("Notch"),
+                Component.text("1"),
+                Component.text("1 day, 3 hours, 4 minutes and 5 seconds")
+        };
+    }
+
+    @Benchmark
+    public Component formatName() {
+        return AdventureFormatter.format(name, placeholders);
+    }
+
+    @Benchmark
+    public List<Component> formatLore() {
+        return AdventureFormatter.format(lore, placeholders);
+    }
+
+    @Benchmark
+    public Component formatString() {
+        return AdventureFormatter.format("<gray>You have spent <red>{PLAYER_PLAYTIME} <gray>on this server.", placeholders);
+    }
+
+    @Benchmark
+    public Component renderNameTemplate() {
+        return nameTemplate.render(values);
+    }
+
+    @Benchmark
+    public List<Component> renderLoreTemplate() {
+        return AdventureTemplate.render(loreTemplate, values);
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.imdmk.playtime.core.time;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DurationFormatterBenchmark {
+
+    @Param({"450", "59000", "3723000", "97445123"})
+    public long millis;
+
+    private DurationFormatter formatter;
+    private DurationService service;
+    private Duration duration;
+    private UUID uuid;
+
+    @Setup
+    public void setup() {
+        DurationFormatConfig config = new DurationFormatConfig();
+        formatter = new DurationFormatter(
+                config.pattern,
+                config.separator,
+                config.lastSeparator,
+                config.zero
+        );
+        service = new DurationService(config);
+        duration = Duration.ofMillis(millis);
+        uuid = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public String format() {
+        return formatter.format(duration);
+    }
+
+    @Benchmark
+    public String formatMillis() {
+        return formatter.format(millis);
+    }
+
+    @Benchmark
+    public String formatMemoized() {
+        return service.format(uuid, () -> millis);
+    }
+}
@@ -4,6 +4,7 @@ import com.github.imdmk.playtime.api.PlayTimeApi;
 import com.github.imdmk.playtime.api.PlayTimeApiProvider;
 import com.github.imdmk.playtime.core.feature.playtime.PlayTimeApiAdapter;
 import com.github.imdmk.playtime.core.injector.ComponentManager;
+import com.github.imdmk.playtime.core.injector.StartupReport;
 import com.github.imdmk.playtime.core.injector.processor.ComponentProcessors;
 import com.github.imdmk.playtime.core.injector.subscriber.LocalPublisher;
 import com.github.imdmk.playtime.core.injector.subscriber.Publisher;
@@ -19,17 +20,22 @@ import org.panda_lang.utilities.inject.DependencyInjection;
 import org.panda_lang.utilities.inject.Injector;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 final class PlayTimeCore {
 
     private static final String BASE_PACKAGE = "com.github.imdmk.playtime";
 
-    private final Publisher publisher;
+    private static final int REPORT_LIMIT = 15;
+    private static final Duration ASYNC_SUBSCRIBER_TIMEOUT = Duration.ofSeconds(5);
+
+    private final PluginLogger logger;
+    private final LocalPublisher publisher;
 
     PlayTimeCore(Plugin plugin) {
         Stopwatch stopwatch = Stopwatch.createStarted();
-        PluginLogger logger = new BukkitPluginLogger(plugin);
+        this.logger = new BukkitPluginLogger(plugin);
 
         Injector injector = DependencyInjection.createInjector(resources -> {
             resources.on(Plugin.class).assignInstance(plugin);
@@ -41,7 +47,12 @@ final class PlayTimeCore {
 
         injector.getResources().on(Injector.class).assignInstance(() -> injector);
 
-        this.publisher = new LocalPublisher(injector);
+        this.publisher = new LocalPublisher(injector, logger);
+        injector.getResources().on(Publisher.class).assignInstance(this.publisher);
+        injector.getResources().on(LocalPublisher.class).assignInstance(this.publisher);
+
+        StartupReport report = new StartupReport();
+        injector.getResources().on(StartupReport.class).assignInstance(report);
 
         ComponentManager componentManager = new ComponentManager(injector, BASE_PACKAGE)
                 .addProcessors(ComponentProcessors.defaults())
@@ -55,12 +66,33 @@ final class PlayTimeCore {
 
         this.publisher.publish(new PlayTimeInitializeEvent());
 
+        report.record(
+                stopwatch.elapsed(TimeUnit.NANOSECONDS),
+                componentManager.scanNanos(),
+                componentManager.layerCount(),
+                componentManager.timings(),
+                this.publisher.timings(PlayTimeInitializeEvent.class)
+        );
+        report.table(REPORT_LIMIT).forEach(logger::info);
+        StartupReport.mailboxTable(this.publisher.mailboxStats()).forEach(logger::info);
+
         long elapsedMillis = stopwatch.elapsed(TimeUnit.MILLISECONDS);
         logger.info("Successfully loaded plugin in " + elapsedMillis + "ms!");
     }
 
     void disable() {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
         this.publisher.publish(new PlayTimeShutdownEvent());
+        this.publisher.shutdown(ASYNC_SUBSCRIBER_TIMEOUT);
         PlayTimeApiProvider.unregister();
+
+        logger.info("Shutdown report: %dms total", stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        StartupReport.handlerTable(
+                "shutdown handlers",
+                this.publisher.timings(PlayTimeShutdownEvent.class),
+                REPORT_LIMIT
+        ).forEach(logger::info);
+        StartupReport.mailboxTable(this.publisher.mailboxStats()).forEach(logger::info);
     }
 }
@@ -2,6 +2,7 @@ package com.github.imdmk.playtime.core.database;
 
 import com.github.imdmk.playtime.core.database.configurer.DataSourceConfigurer;
 import com.github.imdmk.playtime.core.database.configurer.DataSourceConfigurerFactory;
+import com.github.imdmk.playtime.core.database.executor.TimeoutDataSource;
 import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
 import com.j256.ormlite.jdbc.DataSourceConnectionSource;
 import com.j256.ormlite.support.ConnectionSource;
@@ -9,17 +10,23 @@ import com.zaxxer.hikari.HikariDataSource;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Optional;
 
 final class DataSourceConnector {
 
+    private static final String READER_POOL_SUFFIX = "-reader";
+
     private final PluginLogger logger;
 
     private final DataSourceFactory dataSourceFactory;
     private final DataSourceConfigurer dataSourceConfigurer;
 
     private volatile HikariDataSource dataSource;
+    private volatile @Nullable HikariDataSource readDataSource;
     private volatile ConnectionSource connectionSource;
+    private volatile DataSourceMetrics metrics;
 
     DataSourceConnector(
             PluginLogger logger,
@@ -38,34 +45,109 @@ final class DataSourceConnector {
             throw new IllegalStateException("DataSource is already connected");
         }
 
-        HikariDataSource dataSource = dataSourceFactory.create(config);
+        DataSourceMetrics metrics = new DataSourceMetrics(logger);
+        HikariDataSource dataSource = dataSourceFactory.create(config, metrics);
         dataSourceConfigurer.configure(dataSource, config, dataFolder);
 
+        // user properties go last, so they can override the driver defaults
+        config.databaseProperties.forEach(dataSource::addDataSourceProperty);
+
         if (dataSource.getJdbcUrl() == null) {
             throw new IllegalStateException("JDBC URL was not set by DataSourceConfigurer");
         }
 
-        ConnectionSource connectionSource = new DataSourceConnectionSource(dataSource, dataSource.getJdbcUrl());
+        HikariDataSource readDataSource = null;
+        Optional<DataSourceConfigurer> readerConfigurer = dataSourceConfigurer.readerConfigurer();
+        if (readerConfigurer.isPresent()) {
+            readDataSource = dataSourceFactory.create(config, metrics);
+            readDataSource.setPoolName(readDataSource.getPoolName() + READER_POOL_SUFFIX);
+            readerConfigurer.get().configure(readDataSource, config, dataFolder);
+            config.databaseProperties.forEach(readDataSource::addDataSourceProperty);
+        }
+
+        // statements get the query timeout of the running task and can be cancelled when it expires
+        ConnectionSource connectionSource = readDataSource != null
+                ? new SplitConnectionSource(
+                        new TimeoutDataSource(dataSource),
+                        new TimeoutDataSource(readDataSource),
+                        dataSource.getJdbcUrl())
+                : new DataSourceConnectionSource(
+                        new TimeoutDataSource(dataSource),
+                        dataSource.getJdbcUrl());
 
         this.dataSource = dataSource;
+        this.readDataSource = readDataSource;
         this.connectionSource = connectionSource;
+        this.metrics = metrics;
 
         logger.info("Connected to %s database.", config.databaseMode);
     }
 
     synchronized void close() {
+        if (metrics != null) {
+            DatabasePoolStats stats = metrics.stats();
+            logger.info(
+                    "Database pool: %d connections acquired (avg %.2fms, max %.2fms), avg usage %.2fms, %d timeouts",
+                    stats.acquired(),
+                    stats.averageAcquireMillis(),
+                    stats.maxAcquireMillis(),
+                    stats.averageUsageMillis(),
+                    stats.timeouts()
+            );
+        }
+
         if (connectionSource != null) {
             try {
                 connectionSource.close();
             } catch (Exception ignored) {}
         }
 
+        if (readDataSource != null) {
+            readDataSource.close();
+        }
+
         if (dataSource != null) {
             dataSource.close();
         }
 
         connectionSource = null;
+        readDataSource = null;
         dataSource = null;
+        metrics = null;
+    }
+
+    // sizes the query threads, with a split pool writes have their own thread
+    int maximumPoolSize() {
+        HikariDataSource current = dataSource;
+        if (current == null) {
+            throw new IllegalStateException("DataSource is not connected");
+        }
+
+        HikariDataSource reader = readDataSource;
+        return reader != null ? reader.getMaximumPoolSize() : current.getMaximumPoolSize();
+    }
+
+    // a plain connection from the writer pool, for work that runs before the executor exists
+    Connection writeConnection() throws SQLException {
+        HikariDataSource current = dataSource;
+        if (current == null) {
+            throw new IllegalStateException("DataSource is not connected");
+        }
+
+        return current.getConnection();
+    }
+
+    boolean singleWriter() {
+        return readDataSource != null;
+    }
+
+    DatabasePoolStats poolStats() {
+        DataSourceMetrics current = metrics;
+        if (current == null) {
+            throw new IllegalStateException("DataSource is not connected");
+        }
+
+        return current.stats();
     }
 
     @Nullable
@@ -1,43 +1,31 @@
 package com.github.imdmk.playtime.core.database;
 
 import com.zaxxer.hikari.HikariDataSource;
-
-import java.util.Map;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
 
 final class DataSourceFactory {
 
     private static final String POOL_NAME = "playtime-db-pool";
 
-    private static final int MAX_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors());
-    private static final int MIN_IDLE = 0;
-
-    private static final int CONNECTION_TIMEOUT = 10_000;
-    private static final int IDLE_TIMEOUT = 60_000;
-    private static final int MAX_LIFETIME = 600_000;
+    private static final int AUTO_MAX_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors());
 
-    private static final Map<String, Object> SOURCE_PROPERTIES = Map.of(
-            "cachePrepStmts", true,
-            "prepStmtCacheSize", 250,
-            "prepStmtCacheSqlLimit", 2048,
-            "useServerPrepStmts", true
-    );
-
-    HikariDataSource create(DatabaseConfig config) {
+    HikariDataSource create(DatabaseConfig config, MetricsTrackerFactory metrics) {
         HikariDataSource dataSource = new HikariDataSource();
         dataSource.setPoolName(POOL_NAME);
 
         dataSource.setUsername(config.databaseUserName);
         dataSource.setPassword(config.databasePassword);
 
-        dataSource.setMaximumPoolSize(MAX_POOL_SIZE);
-        dataSource.setMinimumIdle(MIN_IDLE);
+        int maximumPoolSize = config.databasePoolMaximumSize > 0 ? config.databasePoolMaximumSize : AUTO_MAX_POOL_SIZE;
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(Math.max(0, Math.min(config.databasePoolMinimumIdle, maximumPoolSize)));
 
-        dataSource.setConnectionTimeout(CONNECTION_TIMEOUT);
-        dataSource.setIdleTimeout(IDLE_TIMEOUT);
-        dataSource.setMaxLifetime(MAX_LIFETIME);
+        dataSource.setConnectionTimeout(config.databaseConnectionTimeout.toMillis());
+        dataSource.setIdleTimeout(config.databaseIdleTimeout.toMillis());
+        dataSource.setMaxLifetime(config.databaseMaxLifetime.toMillis());
+        dataSource.setKeepaliveTime(config.databaseKeepaliveTime.toMillis());
 
-        SOURCE_PROPERTIES.forEach(dataSource::addDataSourceProperty);
+        dataSource.setMetricsTrackerFactory(metrics);
         return dataSource;
     }
 }
-
@@ -0,0 +1,114 @@
+package com.github.imdmk.playtime.core.database;
+
+import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects Hikari pool metrics for the debug command and the shutdown log.
+ * Shared by every pool of one connection, so a split reader/writer setup reports combined numbers.
+ */
+final class DataSourceMetrics implements MetricsTrackerFactory {
+
+    private final PluginLogger logger;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0L);
+
+    private final LongAdder used = new LongAdder();
+    private final LongAdder usageMillis = new LongAdder();
+    private final LongAccumulator maxUsageMillis = new LongAccumulator(Math::max, 0L);
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder createMillis = new LongAdder();
+
+    private final LongAdder timeouts = new LongAdder();
+
+    private final List<PoolStats> pools = new CopyOnWriteArrayList<>();
+
+    DataSourceMetrics(PluginLogger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        pools.add(poolStats);
+        return new Tracker();
+    }
+
+    DatabasePoolStats stats() {
+        int total = 0;
+        int active = 0;
+        int idle = 0;
+        int pending = 0;
+        int maximum = 0;
+        for (PoolStats pool : pools) {
+            total += pool.getTotalConnections();
+            active += pool.getActiveConnections();
+            idle += pool.getIdleConnections();
+            pending += pool.getPendingThreads();
+            maximum += pool.getMaxConnections();
+        }
+
+        long acquiredCount = acquired.sum();
+        long usedCount = used.sum();
+        long createdCount = created.sum();
+
+        return new DatabasePoolStats(
+                total,
+                active,
+                idle,
+                pending,
+                maximum,
+                acquiredCount,
+                acquiredCount == 0 ? 0.0 : acquireNanos.sum() / (double) acquiredCount / 1_000_000.0,
+                maxAcquireNanos.get() / 1_000_000.0,
+                usedCount == 0 ? 0.0 : usageMillis.sum() / (double) usedCount,
+                maxUsageMillis.get(),
+                createdCount,
+                createdCount == 0 ? 0.0 : createMillis.sum() / (double) createdCount,
+                timeouts.sum()
+        );
+    }
+
+    private final class Tracker implements IMetricsTracker {
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            created.increment();
+            createMillis.add(connectionCreatedMillis);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquired.increment();
+            acquireNanos.add(elapsedAcquiredNanos);
+            maxAcquireNanos.accumulate(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            used.increment();
+            usageMillis.add(elapsedBorrowedMillis);
+            maxUsageMillis.accumulate(elapsedBorrowedMillis);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+
+            DatabasePoolStats stats = stats();
+            logger.warn(
+                    "Timed out waiting for a database connection (%d active, %d waiting), consider a larger pool",
+                    stats.active(),
+                    stats.pending()
+            );
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.github.imdmk.playtime.core.database;
 
 import com.github.imdmk.playtime.core.config.ConfigSection;
+import com.github.imdmk.playtime.core.database.repository.RepositoryMode;
 import com.github.imdmk.playtime.core.injector.annotations.ConfigFile;
 import eu.okaeri.configs.annotation.Comment;
 import eu.okaeri.configs.serdes.OkaeriSerdesPack;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @ConfigFile
 public final class DatabaseConfig extends ConfigSection {
@@ -15,6 +19,7 @@ public final class DatabaseConfig extends ConfigSection {
             "# Supported: SQLITE, MYSQL, MARIADB, POSTGRESQL, H2, SQL",
             "# Recommended for beginners: SQLITE",
             "# Recommended for production: MYSQL or MARIADB",
+            "# MYSQL uses the upsert row alias on 8.0.19 and newer, older servers fall back to VALUES()",
             "#"
     })
     public DatabaseMode databaseMode = DatabaseMode.SQLITE;
@@ -73,6 +78,99 @@ public final class DatabaseConfig extends ConfigSection {
     })
     public int port = 3306;
 
+    @Comment({
+            "#",
+            "# Maximum number of pooled database connections.",
+            "#",
+            "# 0 picks the number of CPU cores, with a minimum of 4.",
+            "# Ignored for SQLITE, which uses one writer connection and a small read-only pool.",
+            "#"
+    })
+    public int databasePoolMaximumSize = 0;
+
+    @Comment({
+            "#",
+            "# Connections kept open while the plugin is idle.",
+            "#",
+            "# Keeping a few avoids paying connection setup (TCP, TLS, authentication) on the next burst of queries.",
+            "# Ignored for SQLITE.",
+            "#"
+    })
+    public int databasePoolMinimumIdle = 2;
+
+    @Comment({
+            "#",
+            "# How long a query waits for a free connection before failing.",
+            "#"
+    })
+    public Duration databaseConnectionTimeout = Duration.ofSeconds(10);
+
+    @Comment({
+            "#",
+            "# How long a connection above the minimum idle count may stay unused before it is closed.",
+            "#"
+    })
+    public Duration databaseIdleTimeout = Duration.ofMinutes(10);
+
+    @Comment({
+            "#",
+            "# Maximum lifetime of a connection. Keep it a few minutes below the server's wait_timeout.",
+            "#"
+    })
+    public Duration databaseMaxLifetime = Duration.ofMinutes(30);
+
+    @Comment({
+            "#",
+            "# How often idle connections are pinged, so firewalls and the server do not drop them.",
+            "#"
+    })
+    public Duration databaseKeepaliveTime = Duration.ofMinutes(5);
+
+    @Comment({
+            "#",
+            "# Extra JDBC driver properties, applied on top of the defaults for the selected database.",
+            "#",
+            "# Example:",
+            "#   databaseProperties:",
+            "#     useSSL: 'true'",
+            "#"
+    })
+    public Map<String, String> databaseProperties = new LinkedHashMap<>();
+
+    @Comment({
+            "#",
+            "# How repositories talk to the database.",
+            "#",
+            "# ORMLITE - maps rows through ORMLite, a save is a lookup followed by an insert or update.",
+            "# JDBC    - hand-written statements with native upserts (ON DUPLICATE KEY, ON CONFLICT, MERGE),",
+            "#           one round trip per save and no reflection. Both use the same tables.",
+            "#"
+    })
+    public RepositoryMode databaseRepositoryMode = RepositoryMode.ORMLITE;
+
+    @Comment({
+            "#",
+            "# Maximum number of queries waiting for a free database thread.",
+            "#",
+            "# There is one database thread per pooled connection.",
+            "# When the queue is full, new queries fail right away instead of piling up in memory.",
+            "#",
+            "# Recommended:",
+            "#  - 500–5000",
+            "#"
+    })
+    public int databaseQueueCapacity = 1000;
+
+    @Comment({
+            "#",
+            "# Run database queries on virtual threads instead of platform threads.",
+            "#",
+            "# The number of concurrent queries is still limited by the connection pool.",
+            "# Leave disabled unless your JDBC driver is known to work well with virtual threads.",
+            "#"
+    })
+    public boolean databaseVirtualThreads = false;
+
     @Override
     public OkaeriSerdesPack serdesPack() {
         return registry -> {};
@@ -1,5 +1,6 @@
 package com.github.imdmk.playtime.core.database;
 
+import com.github.imdmk.playtime.core.database.executor.DatabaseExecutor;
 import com.j256.ormlite.support.ConnectionSource;
 
 import java.sql.SQLException;
@@ -9,4 +10,8 @@ public interface DatabaseManager {
     void start() throws SQLException;
 
     ConnectionSource getConnectionSource();
+
+    DatabaseExecutor executor();
+
+    DatabasePoolStats poolStats();
 }
@@ -2,26 +2,37 @@ package com.github.imdmk.playtime.core.database;
 
 import com.github.imdmk.playtime.core.database.configurer.DataSourceConfigurer;
 import com.github.imdmk.playtime.core.database.configurer.DataSourceConfigurerFactory;
+import com.github.imdmk.playtime.core.database.executor.DatabaseExecutor;
+import com.github.imdmk.playtime.core.database.migration.MigrationRunner;
+import com.github.imdmk.playtime.core.database.migration.Migrations;
+import com.github.imdmk.playtime.core.database.repository.jdbc.SqlDialect;
 import com.github.imdmk.playtime.core.injector.annotations.Database;
 import com.github.imdmk.playtime.core.injector.subscriber.Subscribe;
 import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeShutdownEvent;
 import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
+import com.j256.ormlite.misc.TransactionManager;
 import com.j256.ormlite.support.ConnectionSource;
 import org.jetbrains.annotations.Nullable;
 import org.panda_lang.utilities.inject.annotations.Inject;
 
 import java.io.File;
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
 
 @Database
 public final class DatabaseManagerImpl implements DatabaseManager {
 
     private static final DataSourceFactory FACTORY = new DataSourceFactory();
+    private static final Duration EXECUTOR_SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
 
     private final File dataFolder;
     private final DatabaseConfig config;
 
     private final DataSourceConnector dataConnector;
+    private final MigrationRunner migrationRunner;
+
+    private volatile DatabaseExecutor executor;
 
     @Inject
     public DatabaseManagerImpl(
@@ -32,11 +43,34 @@ public final class DatabaseManagerImpl implements DatabaseManager {
         this.dataFolder = dataFolder;
         this.config = config;
         this.dataConnector = new DataSourceConnector(logger, FACTORY, config);
+        this.migrationRunner = new MigrationRunner(logger, SqlDialect.of(config.databaseMode));
     }
 
     @Override
     public void start() throws SQLException {
         dataConnector.connect(config, dataFolder);
+
+        // repositories start after this, so they always see the latest schema
+        try (Connection connection = dataConnector.writeConnection()) {
+            migrationRunner.migrate(connection, Migrations.all());
+        } catch (SQLException e) {
+            dataConnector.close();
+            throw e;
+        }
+
+        executor = new DatabaseExecutor(
+                dataConnector.maximumPoolSize(),
+                config.databaseQueueCapacity,
+                config.databaseVirtualThreads,
+                dataConnector.singleWriter() ? this::inTransaction : null
+        );
+    }
+
+    private void inTransaction(Runnable work) throws SQLException {
+        TransactionManager.callInTransaction(getConnectionSource(), () -> {
+            work.run();
+            return null;
+        });
     }
 
     @Override
@@ -45,8 +79,29 @@ public final class DatabaseManagerImpl implements DatabaseManager {
         return dataConnector.getConnectionSource();
     }
 
+    @Override
+    public DatabaseExecutor executor() {
+        DatabaseExecutor current = executor;
+        if (current == null) {
+            throw new IllegalStateException("Database not started");
+        }
+
+        return current;
+    }
+
+    @Override
+    public DatabasePoolStats poolStats() {
+        return dataConnector.poolStats();
+    }
+
     @Subscribe(event = PlayTimeShutdownEvent.class)
     private void shutdown() {
+        // let pending writes finish before their connections go away
+        DatabaseExecutor current = executor;
+        if (current != null) {
+            current.shutdown(EXECUTOR_SHUTDOWN_TIMEOUT);
+        }
+
         dataConnector.close();
     }
 }
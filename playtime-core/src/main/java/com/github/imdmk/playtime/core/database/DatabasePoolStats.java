@@ -0,0 +1,18 @@
+package com.github.imdmk.playtime.core.database;
+
+public record DatabasePoolStats(
+        int total,
+        int active,
+        int idle,
+        int pending,
+        int maximum,
+        long acquired,
+        double averageAcquireMillis,
+        double maxAcquireMillis,
+        double averageUsageMillis,
+        long maxUsageMillis,
+        long created,
+        double averageCreateMillis,
+        long timeouts
+) {
+}
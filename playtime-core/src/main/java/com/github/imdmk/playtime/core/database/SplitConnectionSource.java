@@ -0,0 +1,32 @@
+package com.github.imdmk.playtime.core.database;
+
+import com.j256.ormlite.jdbc.DataSourceConnectionSource;
+import com.j256.ormlite.jdbc.JdbcDatabaseConnection;
+import com.j256.ormlite.support.DatabaseConnection;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Hands ORMLite's read-only connection requests to a separate pool. Inside a transaction the transaction's
+ * connection is used for reads too, so they see the transaction's own writes.
+ */
+final class SplitConnectionSource extends DataSourceConnectionSource {
+
+    private final DataSource readDataSource;
+
+    SplitConnectionSource(DataSource writeDataSource, DataSource readDataSource, String databaseUrl) throws SQLException {
+        super(writeDataSource, databaseUrl);
+        this.readDataSource = readDataSource;
+    }
+
+    @Override
+    public DatabaseConnection getReadOnlyConnection(String tableName) throws SQLException {
+        DatabaseConnection saved = getSavedConnection();
+        if (saved != null) {
+            return saved;
+        }
+
+        return new JdbcDatabaseConnection(readDataSource.getConnection());
+    }
+}
@@ -4,6 +4,7 @@ import com.github.imdmk.playtime.core.database.DatabaseConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
 import java.io.File;
+import java.util.Optional;
 
 @FunctionalInterface
 public interface DataSourceConfigurer {
@@ -11,4 +12,12 @@ public interface DataSourceConfigurer {
     void configure(HikariDataSource dataSource,
                    DatabaseConfig config,
                    File dataFolder);
+
+    /**
+     * Engines that allow only one writer at a time get a separate read-only pool for queries,
+     * while all writes are serialized on the single connection this configurer sets up.
+     */
+    default Optional<DataSourceConfigurer> readerConfigurer() {
+        return Optional.empty();
+    }
 }
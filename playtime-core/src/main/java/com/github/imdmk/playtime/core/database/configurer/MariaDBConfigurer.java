@@ -4,6 +4,7 @@ import com.github.imdmk.playtime.core.database.DatabaseConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
 import java.io.File;
+import java.util.Map;
 
 final class MariaDBConfigurer implements DataSourceConfigurer {
 
@@ -14,9 +15,17 @@ final class MariaDBConfigurer implements DataSourceConfigurer {
             + "&tcpKeepAlive=true"
             + "&socketTimeout=15000";
 
+    private static final Map<String, String> DRIVER_PROPERTIES = Map.of(
+            "cachePrepStmts", "true",
+            "prepStmtCacheSize", "250",
+            "useServerPrepStmts", "true",
+            "useBulkStmts", "true"
+    );
+
     @Override
     public void configure(HikariDataSource dataSource, DatabaseConfig config, File dataFolder) {
         String url = JDBC_URL.formatted(config.databaseHostName, config.port, config.databaseName);
         dataSource.setJdbcUrl(url);
+        DRIVER_PROPERTIES.forEach(dataSource::addDataSourceProperty);
     }
 }
@@ -4,6 +4,7 @@ import com.github.imdmk.playtime.core.database.DatabaseConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
 import java.io.File;
+import java.util.Map;
 
 final class MySQLConfigurer implements DataSourceConfigurer {
 
@@ -18,9 +19,23 @@ final class MySQLConfigurer implements DataSourceConfigurer {
             + "&rewriteBatchedStatements=true"
             + "&socketTimeout=15000";
 
+    // server-side prepared statement cache, the driver re-parses every statement without it
+    private static final Map<String, String> DRIVER_PROPERTIES = Map.of(
+            "cachePrepStmts", "true",
+            "prepStmtCacheSize", "250",
+            "prepStmtCacheSqlLimit", "2048",
+            "useServerPrepStmts", "true",
+            "useLocalSessionState", "true",
+            "cacheResultSetMetadata", "true",
+            "cacheServerConfiguration", "true",
+            "elideSetAutoCommits", "true",
+            "maintainTimeStats", "false"
+    );
+
     @Override
     public void configure(HikariDataSource dataSource, DatabaseConfig config, File dataFolder) {
         String url = JDBC_URL.formatted(config.databaseHostName, config.port, config.databaseName);
         dataSource.setJdbcUrl(url);
+        DRIVER_PROPERTIES.forEach(dataSource::addDataSourceProperty);
     }
 }
@@ -4,6 +4,7 @@ import com.github.imdmk.playtime.core.database.DatabaseConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
 import java.io.File;
+import java.util.Map;
 
 final class PostgreSQLConfigurer implements DataSourceConfigurer {
 
@@ -12,9 +13,17 @@ final class PostgreSQLConfigurer implements DataSourceConfigurer {
             + "&ApplicationName=PlayTime"
             + "&stringtype=unspecified";
 
+    private static final Map<String, String> DRIVER_PROPERTIES = Map.of(
+            "prepareThreshold", "3",
+            "preparedStatementCacheQueries", "256",
+            "preparedStatementCacheSizeMiB", "5",
+            "reWriteBatchedInserts", "true"
+    );
+
     @Override
     public void configure(HikariDataSource dataSource, DatabaseConfig config, File dataFolder) {
         String url = JDBC_URL.formatted(config.databaseHostName, config.port, config.databaseName);
         dataSource.setJdbcUrl(url);
+        DRIVER_PROPERTIES.forEach(dataSource::addDataSourceProperty);
     }
 }
@@ -4,6 +4,7 @@ import com.github.imdmk.playtime.core.database.DatabaseConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
 import java.io.File;
+import java.util.Map;
 
 final class SQLConfigurer implements DataSourceConfigurer {
 
@@ -13,9 +14,15 @@ final class SQLConfigurer implements DataSourceConfigurer {
             + ";trustServerCertificate=true"
             + ";loginTimeout=15";
 
+    private static final Map<String, String> DRIVER_PROPERTIES = Map.of(
+            "statementPoolingCacheSize", "250",
+            "disableStatementPooling", "false"
+    );
+
     @Override
     public void configure(HikariDataSource dataSource, DatabaseConfig config, File dataFolder) {
         String url = JDBC_URL.formatted(config.databaseHostName, config.port, config.databaseName);
         dataSource.setJdbcUrl(url);
+        DRIVER_PROPERTIES.forEach(dataSource::addDataSourceProperty);
     }
 }
@@ -7,16 +7,52 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
 
 final class SQLiteConfigurer implements DataSourceConfigurer {
 
     private static final String JDBC_URL = "jdbc:sqlite:%s";
 
-    private static final int MAX_POOL_SIZE = 2;
-    private static final int MIN_IDLE = 1;
+    // SQLite allows one writer at a time, a second writer connection would only wait on SQLITE_BUSY
+    private static final int WRITER_POOL_SIZE = 1;
+    private static final int READER_POOL_SIZE = 4;
+    private static final int READER_MIN_IDLE = 1;
+
+    // WAL lets readers run while the writer commits, NORMAL only syncs on checkpoints which is still crash-safe in WAL
+    private static final Map<String, String> PRAGMAS = Map.of(
+            "journal_mode", "WAL",
+            "synchronous", "NORMAL",
+            "busy_timeout", "5000",
+            "mmap_size", "268435456",
+            "cache_size", "-8192",
+            "temp_store", "MEMORY"
+    );
+
+    private static final String READ_ONLY_SQL = "PRAGMA query_only = true";
 
     @Override
     public void configure(HikariDataSource dataSource, DatabaseConfig config, File dataFolder) {
+        dataSource.setJdbcUrl(url(config, dataFolder));
+        dataSource.setMaximumPoolSize(WRITER_POOL_SIZE);
+        dataSource.setMinimumIdle(WRITER_POOL_SIZE);
+        PRAGMAS.forEach(dataSource::addDataSourceProperty);
+    }
+
+    @Override
+    public Optional<DataSourceConfigurer> readerConfigurer() {
+        return Optional.of(SQLiteConfigurer::configureReader);
+    }
+
+    private static void configureReader(HikariDataSource dataSource, DatabaseConfig config, File dataFolder) {
+        dataSource.setJdbcUrl(url(config, dataFolder));
+        dataSource.setMaximumPoolSize(READER_POOL_SIZE);
+        dataSource.setMinimumIdle(READER_MIN_IDLE);
+        dataSource.setConnectionInitSql(READ_ONLY_SQL);
+        PRAGMAS.forEach(dataSource::addDataSourceProperty);
+    }
+
+    private static String url(DatabaseConfig config, File dataFolder) {
         Path dbPath = dataFolder.toPath().resolve(config.databaseFileName);
 
         try {
@@ -25,10 +61,6 @@ final class SQLiteConfigurer implements DataSourceConfigurer {
             throw new IllegalStateException("Cannot create SQLite directory: " + dbPath.getParent(), e);
         }
 
-        String url = JDBC_URL.formatted(dbPath);
-
-        dataSource.setJdbcUrl(url);
-        dataSource.setMaximumPoolSize(MAX_POOL_SIZE);
-        dataSource.setMinimumIdle(MIN_IDLE);
+        return JDBC_URL.formatted(dbPath);
     }
 }
@@ -0,0 +1,198 @@
+package com.github.imdmk.playtime.core.database.executor;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs repository queries on threads owned by the plugin, one per pooled connection, so queries
+ * never wait on Bukkit's shared async pool and keep working while the plugin disables.
+ * The queue is bounded, a full queue fails the query right away.
+ * <p>
+ * Engines that allow a single writer (SQLite) also get a {@link GroupCommitWriter}, which serializes writes
+ * and groups them into shared transactions, while reads keep running in parallel.
+ */
+public final class DatabaseExecutor {
+
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final ThreadPoolExecutor executor;
+    private final ScheduledThreadPoolExecutor timeouts;
+    private final @Nullable GroupCommitWriter writer;
+    private final boolean virtualThreads;
+    private final int queueCapacity;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0L);
+
+    public DatabaseExecutor(int threads, int queueCapacity, boolean virtualThreads) {
+        this(threads, queueCapacity, virtualThreads, null);
+    }
+
+    public DatabaseExecutor(int threads, int queueCapacity, boolean virtualThreads, @Nullable TransactionRunner singleWriter) {
+        this.virtualThreads = virtualThreads;
+        this.queueCapacity = Math.max(1, queueCapacity);
+
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("playtime-db-", 1).factory()
+                : new DatabaseThreadFactory("playtime-db-");
+
+        this.executor = new ThreadPoolExecutor(
+                Math.max(1, threads),
+                Math.max(1, threads),
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(this.queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.timeouts = new ScheduledThreadPoolExecutor(1, new DatabaseThreadFactory("playtime-db-timeout-"));
+        this.timeouts.setRemoveOnCancelPolicy(true);
+
+        this.writer = singleWriter != null
+                ? new GroupCommitWriter(singleWriter, this.queueCapacity, this::recordWait)
+                : null;
+    }
+
+    public <R> CompletableFuture<R> submit(Supplier<R> supplier, Duration timeout) {
+        return submit(supplier, timeout, false);
+    }
+
+    // writes go through the single writer when there is one, otherwise they run like any other query
+    public <R> CompletableFuture<R> submitWrite(Supplier<R> supplier, Duration timeout) {
+        return submit(supplier, timeout, writer != null);
+    }
+
+    private <R> CompletableFuture<R> submit(Supplier<R> supplier, Duration timeout, boolean serialized) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        QueryContext context = new QueryContext(timeoutSeconds(timeout));
+        long enqueuedAt = System.nanoTime();
+
+        Runnable task = () -> {
+            recordWait(System.nanoTime() - enqueuedAt);
+            if (future.isDone()) {
+                return; // timed out while queued, never touch a connection
+            }
+
+            context.bind();
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                context.unbind();
+            }
+        };
+
+        try {
+            if (serialized) {
+                writer.submit(supplier, future, context, enqueuedAt);
+            } else {
+                executor.execute(task);
+            }
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        ScheduledFuture<?> timeoutTask = timeouts.schedule(() -> {
+            // a write that is already committing is left to finish, its caller gets the committed result
+            if (!future.isDone()
+                    && context.cancel()
+                    && future.completeExceptionally(new TimeoutException("Database query timed out after " + timeout.toMillis() + "ms"))) {
+                timedOut.increment();
+            }
+        }, timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        future.whenComplete((result, throwable) -> timeoutTask.cancel(false));
+        return future;
+    }
+
+    public DatabaseExecutorStats stats() {
+        long count = waits.sum();
+        return new DatabaseExecutorStats(
+                executor.getMaximumPoolSize(),
+                virtualThreads,
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                queueCapacity,
+                executor.getCompletedTaskCount(),
+                rejected.sum(),
+                timedOut.sum(),
+                count == 0 ? 0.0 : waitNanos.sum() / (double) count / 1_000_000.0,
+                maxWaitNanos.get() / 1_000_000.0,
+                writer != null,
+                writer != null ? writer.queued() : 0,
+                writer != null ? writer.commits() : 0L,
+                writer != null ? writer.committedWrites() : 0L,
+                writer != null ? writer.retriedGroups() : 0L
+        );
+    }
+
+    // queued and running queries get the timeout to finish, whatever is left after that is cancelled
+    public void shutdown(Duration timeout) {
+        executor.shutdown();
+        if (writer != null) {
+            writer.shutdown(timeout);
+        }
+
+        try {
+            if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            timeouts.shutdownNow();
+        }
+    }
+
+    private void recordWait(long nanos) {
+        waits.increment();
+        waitNanos.add(nanos);
+        maxWaitNanos.accumulate(nanos);
+    }
+
+    // JDBC timeouts are whole seconds, round up so the driver never gives up before we do
+    private static int timeoutSeconds(Duration timeout) {
+        long millis = timeout.toMillis();
+        return millis <= 0 ? 0 : (int) Math.min(Integer.MAX_VALUE, (millis + 999) / 1000);
+    }
+
+    private static final class DatabaseThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private DatabaseThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
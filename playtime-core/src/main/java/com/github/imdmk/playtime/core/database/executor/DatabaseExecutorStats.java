@@ -0,0 +1,24 @@
+package com.github.imdmk.playtime.core.database.executor;
+
+public record DatabaseExecutorStats(
+        int threads,
+        boolean virtualThreads,
+        int active,
+        int queued,
+        int queueCapacity,
+        long completed,
+        long rejected,
+        long timedOut,
+        double averageWaitMillis,
+        double maxWaitMillis,
+        boolean singleWriter,
+        int writesQueued,
+        long commits,
+        long committedWrites,
+        long retriedGroups
+) {
+
+    public double averageCommitSize() {
+        return commits == 0 ? 0.0 : committedWrites / (double) commits;
+    }
+}
@@ -0,0 +1,230 @@
+package com.github.imdmk.playtime.core.database.executor;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs every write on one thread. Writes queued while a transaction commits are grouped into the next one,
+ * so a burst of saves pays for a single commit. When a group fails, its writes are retried one transaction
+ * each, so one bad write never takes the others down with it. A write that timed out while its group ran
+ * rolls the group back as well, so a caller that was told it failed never sees it committed.
+ */
+final class GroupCommitWriter {
+
+    private static final int MAX_GROUP_SIZE = 256;
+    private static final long POLL_MILLIS = 250L;
+
+    private final TransactionRunner transactions;
+    private final LongConsumer waitRecorder;
+    private final BlockingQueue<WriteTask<?>> queue;
+    private final Thread thread;
+
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder committedWrites = new LongAdder();
+    private final LongAdder retriedGroups = new LongAdder();
+
+    private volatile boolean running = true;
+
+    GroupCommitWriter(TransactionRunner transactions, int queueCapacity, LongConsumer waitRecorder) {
+        this.transactions = transactions;
+        this.waitRecorder = waitRecorder;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.thread = new Thread(this::run, "playtime-db-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    <R> void submit(Supplier<R> supplier, CompletableFuture<R> future, QueryContext context, long enqueuedAt) {
+        if (!running || !queue.offer(new WriteTask<>(supplier, future, context, enqueuedAt))) {
+            throw new RejectedExecutionException("Database write queue is full or shut down");
+        }
+    }
+
+    int queued() {
+        return queue.size();
+    }
+
+    long commits() {
+        return commits.sum();
+    }
+
+    long committedWrites() {
+        return committedWrites.sum();
+    }
+
+    long retriedGroups() {
+        return retriedGroups.sum();
+    }
+
+    // queued writes get the timeout to finish, whatever is left after that is cancelled
+    void shutdown(Duration timeout) {
+        running = false;
+        try {
+            thread.join(timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (thread.isAlive()) {
+            thread.interrupt();
+        }
+
+        WriteTask<?> task;
+        while ((task = queue.poll()) != null) {
+            task.fail(new CancellationException("Database writer shut down"));
+        }
+    }
+
+    private void run() {
+        List<WriteTask<?>> group = new ArrayList<>(MAX_GROUP_SIZE);
+
+        while (running || !queue.isEmpty()) {
+            WriteTask<?> first;
+            try {
+                first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            if (first == null) {
+                continue;
+            }
+
+            group.add(first);
+            queue.drainTo(group, MAX_GROUP_SIZE - 1);
+
+            commit(group);
+            group.clear();
+        }
+    }
+
+    private void commit(List<WriteTask<?>> group) {
+        long now = System.nanoTime();
+        for (WriteTask<?> task : group) {
+            waitRecorder.accept(now - task.enqueuedAt);
+        }
+
+        // timed out while queued, never touch the connection
+        group.removeIf(WriteTask::isDone);
+        if (group.isEmpty()) {
+            return;
+        }
+
+        if (group.size() == 1) {
+            commitAlone(group.get(0));
+            return;
+        }
+
+        try {
+            transactions.inTransaction(() -> {
+                group.forEach(WriteTask::run);
+                claimCommit(group);
+            });
+        } catch (Exception e) {
+            group.forEach(WriteTask::releaseCommit);
+            retriedGroups.increment();
+            group.forEach(this::commitAlone);
+            return;
+        }
+
+        group.forEach(WriteTask::complete);
+        commits.increment();
+        committedWrites.add(group.size());
+    }
+
+    private void commitAlone(WriteTask<?> task) {
+        if (task.isDone()) {
+            return;
+        }
+
+        try {
+            transactions.inTransaction(() -> {
+                task.run();
+                claimCommit(List.of(task));
+            });
+        } catch (Exception e) {
+            task.releaseCommit();
+            task.fail(e);
+            return;
+        }
+
+        task.complete();
+        commits.increment();
+        committedWrites.increment();
+    }
+
+    // runs last inside the transaction, throwing rolls it back
+    private static void claimCommit(List<WriteTask<?>> tasks) {
+        for (WriteTask<?> task : tasks) {
+            if (!task.claimCommit()) {
+                throw new CancellationException("Database write timed out before its transaction committed");
+            }
+        }
+    }
+
+    private static final class WriteTask<R> {
+
+        private final Supplier<R> supplier;
+        private final CompletableFuture<R> future;
+        private final QueryContext context;
+        private final long enqueuedAt;
+
+        private @Nullable R result;
+        private @Nullable Throwable failure;
+
+        private WriteTask(Supplier<R> supplier, CompletableFuture<R> future, QueryContext context, long enqueuedAt) {
+            this.supplier = supplier;
+            this.future = future;
+            this.context = context;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        private boolean isDone() {
+            return future.isDone();
+        }
+
+        private boolean claimCommit() {
+            return context.claimCommit();
+        }
+
+        private void releaseCommit() {
+            context.releaseCommit();
+        }
+
+        private void run() {
+            context.bind();
+            try {
+                failure = null;
+                result = supplier.get();
+            } catch (Throwable e) {
+                failure = e;
+                throw e;
+            } finally {
+                context.unbind();
+            }
+        }
+
+        // only called after the transaction committed
+        private void complete() {
+            future.complete(result);
+        }
+
+        // prefer the task's own failure over whatever the transaction wrapped it in
+        private void fail(Throwable e) {
+            future.completeExceptionally(failure != null ? failure : e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.imdmk.playtime.core.database.executor;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * State of one database task, bound to the thread running it. Statements created while it is bound
+ * get the driver-side query timeout and can be cancelled when the task times out.
+ * A write that is about to commit claims its context first, after that it can no longer time out.
+ */
+final class QueryContext {
+
+    private static final ThreadLocal<QueryContext> CURRENT = new ThreadLocal<>();
+
+    private static final int RUNNING = 0;
+    private static final int CANCELLED = 1;
+    private static final int COMMITTING = 2;
+
+    private final int timeoutSeconds;
+
+    private volatile @Nullable Statement statement;
+    private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+    QueryContext(int timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Nullable
+    static QueryContext current() {
+        return CURRENT.get();
+    }
+
+    void bind() {
+        CURRENT.set(this);
+    }
+
+    void unbind() {
+        CURRENT.remove();
+    }
+
+    void register(Statement statement) throws SQLException {
+        if (timeoutSeconds > 0) {
+            statement.setQueryTimeout(timeoutSeconds);
+        }
+
+        // statements run one after another on the task thread, only the latest can be executing
+        this.statement = statement;
+        if (state.get() == CANCELLED) {
+            statement.cancel();
+        }
+    }
+
+    // false when the task already claimed its commit, the caller then gets the real outcome instead
+    boolean cancel() {
+        if (!state.compareAndSet(RUNNING, CANCELLED)) {
+            return state.get() == CANCELLED;
+        }
+
+        Statement current = statement;
+        if (current == null) {
+            return true;
+        }
+
+        try {
+            current.cancel();
+        } catch (SQLException ignored) {
+            // already closed or not cancellable, the driver timeout still applies
+        }
+        return true;
+    }
+
+    boolean claimCommit() {
+        return state.compareAndSet(RUNNING, COMMITTING);
+    }
+
+    // the transaction rolled back, the task may be retried and time out again
+    void releaseCommit() {
+        state.compareAndSet(COMMITTING, RUNNING);
+    }
+}
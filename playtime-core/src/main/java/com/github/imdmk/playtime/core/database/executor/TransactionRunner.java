@@ -0,0 +1,10 @@
+package com.github.imdmk.playtime.core.database.executor;
+
+@FunctionalInterface
+public interface TransactionRunner {
+
+    /**
+     * Runs the work in a single transaction, committing when it returns and rolling back when it throws.
+     */
+    void inTransaction(Runnable work) throws Exception;
+}
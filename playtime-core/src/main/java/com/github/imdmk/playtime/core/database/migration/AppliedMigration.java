@@ -0,0 +1,8 @@
+package com.github.imdmk.playtime.core.database.migration;
+
+record AppliedMigration(
+        int version,
+        String description,
+        long checksum
+) {
+}
@@ -0,0 +1,33 @@
+package com.github.imdmk.playtime.core.database.migration;
+
+import com.github.imdmk.playtime.core.database.repository.jdbc.SqlDialect;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * One schema change. Statements are rendered per dialect and must be safe to run again,
+ * a second server can apply the same migration concurrently or a crash can leave it half done.
+ */
+public record Migration(
+        int version,
+        String description,
+        Function<SqlDialect, List<String>> script
+) {
+
+    public List<String> statements(SqlDialect dialect) {
+        return script.apply(dialect);
+    }
+
+    // covers the rendered statements, so editing a released migration is caught on the next startup
+    public long checksum(SqlDialect dialect) {
+        CRC32 crc = new CRC32();
+        for (String statement : statements(dialect)) {
+            crc.update(statement.getBytes(StandardCharsets.UTF_8));
+            crc.update('\n');
+        }
+        return crc.getValue();
+    }
+}
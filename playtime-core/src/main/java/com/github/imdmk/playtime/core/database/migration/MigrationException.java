@@ -0,0 +1,14 @@
+package com.github.imdmk.playtime.core.database.migration;
+
+import java.sql.SQLException;
+
+public final class MigrationException extends SQLException {
+
+    public MigrationException(String message) {
+        super(message);
+    }
+
+    public MigrationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.imdmk.playtime.core.database.migration;
+
+import com.github.imdmk.playtime.core.database.repository.jdbc.SqlDialect;
+import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Applies pending migrations in version order and records each one in the schema version table.
+ * <p>
+ * Several servers may share one database and start at the same time. A migration that fails is not
+ * an error when another server recorded the same version meanwhile, as long as the checksums match.
+ */
+public final class MigrationRunner {
+
+    private static final String VERSION_TABLE = "advanced_playtime_schema_version";
+
+    private final PluginLogger logger;
+    private final SqlDialect dialect;
+
+    private final String selectApplied;
+    private final String insertApplied;
+
+    public MigrationRunner(PluginLogger logger, SqlDialect dialect) {
+        this.logger = logger;
+        this.dialect = dialect;
+
+        String table = dialect.quote(VERSION_TABLE);
+        this.selectApplied = "SELECT " + dialect.quote("version") + ", " + dialect.quote("description") + ", "
+                + dialect.quote("checksum") + " FROM " + table;
+        this.insertApplied = "INSERT INTO " + table + " (" + dialect.quote("version") + ", " + dialect.quote("description") + ", "
+                + dialect.quote("checksum") + ", " + dialect.quote("installedAt") + ", " + dialect.quote("executionMillis") + ")"
+                + " VALUES (?, ?, ?, ?, ?)";
+    }
+
+    public void migrate(Connection connection, List<Migration> migrations) throws SQLException {
+        createVersionTable(connection);
+
+        Map<Integer, AppliedMigration> applied = applied(connection);
+        int latest = migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).version();
+        int pending = 0;
+
+        for (Migration migration : migrations) {
+            AppliedMigration existing = applied.get(migration.version());
+            if (existing != null) {
+                verify(migration, existing);
+                continue;
+            }
+
+            apply(connection, migration);
+            pending++;
+        }
+
+        for (AppliedMigration existing : applied.values()) {
+            if (existing.version() > latest) {
+                logger.warn("Database schema version %d is newer than this plugin (%d), was it downgraded?", existing.version(), latest);
+                break;
+            }
+        }
+
+        if (pending == 0) {
+            logger.info("Database schema is up to date (version %d)", latest);
+        }
+    }
+
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        logger.info("Applying database migration V%d: %s", migration.version(), migration.description());
+        long start = System.nanoTime();
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            for (String sql : migration.statements(dialect)) {
+                execute(connection, sql);
+            }
+
+            record(connection, migration, (System.nanoTime() - start) / 1_000_000L);
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+
+            // another server may have applied it while we tried, that run wins
+            AppliedMigration concurrent = applied(connection).get(migration.version());
+            if (concurrent == null) {
+                throw new MigrationException("Failed to apply database migration V" + migration.version() + ": " + migration.description(), e);
+            }
+
+            verify(migration, concurrent);
+            logger.info("Database migration V%d was applied by another server", migration.version());
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            if (!dialect.isAlreadyExists(e)) {
+                throw e;
+            }
+        }
+    }
+
+    private void record(Connection connection, Migration migration, long executionMillis) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(insertApplied)) {
+            statement.setInt(1, migration.version());
+            statement.setString(2, migration.description());
+            statement.setLong(3, migration.checksum(dialect));
+            statement.setLong(4, System.currentTimeMillis());
+            statement.setLong(5, executionMillis);
+            statement.executeUpdate();
+        }
+    }
+
+    private void verify(Migration migration, AppliedMigration applied) throws MigrationException {
+        long checksum = migration.checksum(dialect);
+        if (applied.checksum() != checksum) {
+            throw new MigrationException("Database migration V" + migration.version() + " was changed after it was applied"
+                    + " (checksum " + applied.checksum() + ", expected " + checksum + ")");
+        }
+    }
+
+    private void createVersionTable(Connection connection) throws SQLException {
+        String columns = dialect.quote("version") + " INT NOT NULL PRIMARY KEY, "
+                + dialect.quote("description") + " VARCHAR(200) NOT NULL, "
+                + dialect.quote("checksum") + " BIGINT NOT NULL, "
+                + dialect.quote("installedAt") + " BIGINT NOT NULL, "
+                + dialect.quote("executionMillis") + " BIGINT NOT NULL";
+
+        try {
+            execute(connection, dialect.createTableIfNotExists(VERSION_TABLE, columns));
+        } catch (SQLException e) {
+            // lost a race with another server creating it, fine as long as it is readable now
+            applied(connection);
+        }
+    }
+
+    private Map<Integer, AppliedMigration> applied(Connection connection) throws SQLException {
+        Map<Integer, AppliedMigration> applied = new TreeMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(selectApplied)) {
+            while (result.next()) {
+                AppliedMigration migration = new AppliedMigration(result.getInt(1), result.getString(2), result.getLong(3));
+                applied.put(migration.version(), migration);
+            }
+        }
+        return applied;
+    }
+}
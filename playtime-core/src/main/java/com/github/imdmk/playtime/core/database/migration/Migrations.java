@@ -0,0 +1,37 @@
+package com.github.imdmk.playtime.core.database.migration;
+
+import java.util.List;
+
+/**
+ * Every schema change in order. Released migrations are frozen, they spell out table and column names
+ * instead of referencing entity metadata, so a later rename cannot change what they did.
+ */
+public final class Migrations {
+
+    private static final String USERS_TABLE = "advanced_playtime_users";
+
+    private static final List<Migration> ALL = List.of(
+            // matches the table ORMLite created before migrations existed, a no-op on existing installs
+            new Migration(1, "users table", dialect -> List.of(
+                    dialect.createTableIfNotExists(USERS_TABLE,
+                            dialect.quote("uuid") + " VARCHAR(48) NOT NULL PRIMARY KEY, "
+                                    + dialect.quote("name") + " VARCHAR(255) NOT NULL, "
+                                    + dialect.quote("playtimeMillis") + " BIGINT NOT NULL"),
+                    dialect.createIndexIfNotExists("advanced_playtime_users_name_idx", USERS_TABLE,
+                            dialect.quote("name"))
+            )),
+            // leaderboard queries order by playtime, without it every refresh is a full scan and sort
+            new Migration(2, "playtime leaderboard index", dialect -> List.of(
+                    dialect.createIndexIfNotExists("advanced_playtime_users_playtime_idx", USERS_TABLE,
+                            dialect.quote("playtimeMillis") + " DESC")
+            ))
+    );
+
+    private Migrations() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated.");
+    }
+
+    public static List<Migration> all() {
+        return ALL;
+    }
+}
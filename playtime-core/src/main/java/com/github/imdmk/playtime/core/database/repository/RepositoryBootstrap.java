@@ -4,6 +4,13 @@ public interface RepositoryBootstrap extends AutoCloseable {
 
     void start() throws RepositoryInitializationException;
 
+    /**
+     * Repositories with alternative implementations only start and bind the one selected in the config.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
     @Override
     void close();
 }
@@ -0,0 +1,5 @@
+package com.github.imdmk.playtime.core.database.repository;
+
+public enum RepositoryMode {
+    ORMLITE, JDBC
+}
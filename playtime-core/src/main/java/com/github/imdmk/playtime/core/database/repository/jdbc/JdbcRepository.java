@@ -0,0 +1,147 @@
+package com.github.imdmk.playtime.core.database.repository.jdbc;
+
+import com.github.imdmk.playtime.core.database.DatabaseManager;
+import com.github.imdmk.playtime.core.database.repository.RepositoryBootstrap;
+import com.github.imdmk.playtime.core.database.repository.RepositoryInitializationException;
+import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
+import com.j256.ormlite.jdbc.JdbcDatabaseConnection;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.table.TableUtils;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Repository base for hand-written statements. Connections are borrowed from the ORMLite connection source,
+ * so reads use the reader pool and writes join the single writer's transaction where the engine has one.
+ * The table layout stays owned by the ORMLite entity, both implementations work on the same table.
+ */
+public abstract class JdbcRepository implements RepositoryBootstrap {
+
+    private static final Duration EXECUTE_TIMEOUT = Duration.ofSeconds(3);
+
+    protected final PluginLogger logger;
+    // narrowed to the connected server's version in start()
+    protected volatile SqlDialect dialect;
+
+    private final DatabaseManager databaseManager;
+
+    private volatile ConnectionSource connectionSource;
+
+    protected JdbcRepository(
+            PluginLogger logger,
+            DatabaseManager databaseManager,
+            SqlDialect dialect
+    ) {
+        this.logger = logger;
+        this.databaseManager = databaseManager;
+        this.dialect = dialect;
+    }
+
+    protected abstract Class<?> entityClass();
+
+    protected abstract String tableName();
+
+    @Override
+    public void start() throws RepositoryInitializationException {
+        ConnectionSource connection = databaseManager.getConnectionSource();
+        if (connection == null) {
+            throw new IllegalStateException("DatabaseBootstrap not started before repository initialization");
+        }
+
+        try {
+            TableUtils.createTableIfNotExists(connection, entityClass());
+            dialect = detectDialect(connection);
+        } catch (SQLException e) {
+            throw new RepositoryInitializationException(entityClass(), e);
+        }
+
+        connectionSource = connection;
+    }
+
+    private SqlDialect detectDialect(ConnectionSource source) throws SQLException {
+        DatabaseConnection connection = source.getReadOnlyConnection(tableName());
+        try {
+            DatabaseMetaData metaData = ((JdbcDatabaseConnection) connection).getInternalConnection().getMetaData();
+            SqlDialect detected = dialect.forServer(metaData);
+            if (detected != dialect) {
+                logger.info("Using the %s dialect for %s %s",
+                        detected, metaData.getDatabaseProductName(), metaData.getDatabaseProductVersion());
+            }
+            return detected;
+        } finally {
+            source.releaseConnection(connection);
+        }
+    }
+
+    @Override
+    public void close() {
+        connectionSource = null;
+    }
+
+    protected <R> CompletableFuture<R> query(SqlFunction<R> function, String failure, Object... args) {
+        return query(function, EXECUTE_TIMEOUT, failure, args);
+    }
+
+    protected <R> CompletableFuture<R> query(SqlFunction<R> function, Duration timeout, String failure, Object... args) {
+        ConnectionSource source = requireConnectionSource();
+        return databaseManager.executor().submit(() -> apply(source, function, true, failure, args), timeout);
+    }
+
+    protected <R> CompletableFuture<R> update(SqlFunction<R> function, String failure, Object... args) {
+        return update(function, EXECUTE_TIMEOUT, failure, args);
+    }
+
+    protected <R> CompletableFuture<R> update(SqlFunction<R> function, Duration timeout, String failure, Object... args) {
+        ConnectionSource source = requireConnectionSource();
+        return databaseManager.executor().submitWrite(() -> apply(source, function, false, failure, args), timeout);
+    }
+
+    // runs the function in its own transaction, unless the connection already belongs to one
+    protected static <R> R inTransaction(Connection connection, SqlFunction<R> function) throws SQLException {
+        if (!connection.getAutoCommit()) {
+            return function.apply(connection);
+        }
+
+        connection.setAutoCommit(false);
+        try {
+            R result = function.apply(connection);
+            connection.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private <R> R apply(ConnectionSource source, SqlFunction<R> function, boolean readOnly, String failure, Object[] args) {
+        try {
+            DatabaseConnection connection = readOnly
+                    ? source.getReadOnlyConnection(tableName())
+                    : source.getReadWriteConnection(tableName());
+            try {
+                return function.apply(((JdbcDatabaseConnection) connection).getInternalConnection());
+            } finally {
+                source.releaseConnection(connection);
+            }
+        } catch (SQLException e) {
+            logger.error(e, failure, args);
+            throw new IllegalStateException("Database failure", e);
+        }
+    }
+
+    private ConnectionSource requireConnectionSource() {
+        ConnectionSource source = connectionSource;
+        if (source == null) {
+            throw new IllegalStateException("Repository not initialized or already closed");
+        }
+
+        return source;
+    }
+}
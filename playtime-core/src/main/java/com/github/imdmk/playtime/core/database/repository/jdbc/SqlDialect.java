@@ -0,0 +1,216 @@
+package com.github.imdmk.playtime.core.database.repository.jdbc;
+
+import com.github.imdmk.playtime.core.database.DatabaseMode;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The few statements that differ between engines: identifier quoting, native upserts, row limits and idempotent DDL.
+ * Identifiers are always quoted, ORMLite creates tables with quoted names and PostgreSQL would fold them otherwise.
+ */
+public enum SqlDialect {
+
+    // the row alias needs MySQL 8.0.19, VALUES() in the update clause is deprecated since 8.0.20
+    MYSQL('`', '`') {
+        @Override
+        public SqlDialect forServer(DatabaseMetaData metaData) throws SQLException {
+            return supportsRowAlias(metaData.getDatabaseProductVersion()) ? this : MARIADB;
+        }
+
+        @Override
+        public String upsert(String table, String key, List<String> columns) {
+            return insert(table, key, columns) + " AS " + ROW_ALIAS + " ON DUPLICATE KEY UPDATE " + columns.stream()
+                    .map(column -> quote(column) + " = " + ROW_ALIAS + "." + quote(column))
+                    .collect(Collectors.joining(", "));
+        }
+
+        @Override
+        public String createIndexIfNotExists(String index, String table, String columns) {
+            return createIndexOrFail(index, table, columns);
+        }
+
+        @Override
+        public boolean isAlreadyExists(SQLException e) {
+            return isMySqlAlreadyExists(e);
+        }
+    },
+
+    // MariaDB and MySQL before 8.0.19 have no row alias, VALUES() is the supported form there
+    MARIADB('`', '`') {
+        @Override
+        public String upsert(String table, String key, List<String> columns) {
+            return insert(table, key, columns) + " ON DUPLICATE KEY UPDATE " + columns.stream()
+                    .map(column -> quote(column) + " = VALUES(" + quote(column) + ")")
+                    .collect(Collectors.joining(", "));
+        }
+
+        @Override
+        public String createIndexIfNotExists(String index, String table, String columns) {
+            return createIndexOrFail(index, table, columns);
+        }
+
+        @Override
+        public boolean isAlreadyExists(SQLException e) {
+            return isMySqlAlreadyExists(e);
+        }
+    },
+
+    POSTGRESQL('"', '"') {
+        @Override
+        public String upsert(String table, String key, List<String> columns) {
+            return insert(table, key, columns) + " ON CONFLICT (" + quote(key) + ") DO UPDATE SET " + columns.stream()
+                    .map(column -> quote(column) + " = excluded." + quote(column))
+                    .collect(Collectors.joining(", "));
+        }
+    },
+
+    H2('"', '"') {
+        @Override
+        public String upsert(String table, String key, List<String> columns) {
+            return "MERGE INTO " + quote(table) + " (" + columnList(key, columns, "") + ") KEY (" + quote(key) + ")"
+                    + " VALUES (" + placeholders(columns.size() + 1) + ")";
+        }
+    },
+
+    SQL_SERVER('[', ']') {
+        @Override
+        public String upsert(String table, String key, List<String> columns) {
+            String columnList = columnList(key, columns, "");
+            return "MERGE INTO " + quote(table) + " WITH (HOLDLOCK) AS target"
+                    + " USING (VALUES (" + placeholders(columns.size() + 1) + ")) AS source (" + columnList + ")"
+                    + " ON target." + quote(key) + " = source." + quote(key)
+                    + " WHEN MATCHED THEN UPDATE SET " + columns.stream()
+                            .map(column -> quote(column) + " = source." + quote(column))
+                            .collect(Collectors.joining(", "))
+                    + " WHEN NOT MATCHED THEN INSERT (" + columnList + ") VALUES (" + columnList(key, columns, "source.") + ");";
+        }
+
+        @Override
+        public String selectTop(String columns, String table, String orderBy) {
+            return "SELECT TOP (?) " + columns + " FROM " + quote(table) + " ORDER BY " + orderBy;
+        }
+
+        @Override
+        public String createTableIfNotExists(String table, String columns) {
+            return "IF OBJECT_ID(N'" + table + "', N'U') IS NULL"
+                    + " CREATE TABLE " + quote(table) + " (" + columns + ")";
+        }
+
+        @Override
+        public String createIndexIfNotExists(String index, String table, String columns) {
+            return "IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = N'" + index + "' AND object_id = OBJECT_ID(N'" + table + "'))"
+                    + " CREATE INDEX " + quote(index) + " ON " + quote(table) + " (" + columns + ")";
+        }
+    };
+
+    private static final String ROW_ALIAS = "new";
+    // MariaDB behind the MySQL driver reports "5.5.5-10.x.y-MariaDB", which falls below this as well
+    private static final int[] ROW_ALIAS_SINCE = {8, 0, 19};
+    private static final Pattern SERVER_VERSION = Pattern.compile("^(\\d+)\\.(\\d+)\\.(\\d+)");
+
+    private static final int ER_TABLE_EXISTS = 1050;
+    private static final int ER_DUP_KEYNAME = 1061;
+
+    private final char openQuote;
+    private final char closeQuote;
+
+    SqlDialect(char openQuote, char closeQuote) {
+        this.openQuote = openQuote;
+        this.closeQuote = closeQuote;
+    }
+
+    public static SqlDialect of(DatabaseMode mode) {
+        return switch (mode) {
+            case MYSQL -> MYSQL;
+            case MARIADB -> MARIADB;
+            case POSTGRESQL, SQLITE -> POSTGRESQL;
+            case H2 -> H2;
+            case SQL -> SQL_SERVER;
+        };
+    }
+
+    /**
+     * The dialect to use against the connected server, for engines whose syntax depends on the server version.
+     */
+    public SqlDialect forServer(DatabaseMetaData metaData) throws SQLException {
+        return this;
+    }
+
+    /**
+     * Insert-or-update of one row by its key, parameters are the key followed by the columns.
+     */
+    public abstract String upsert(String table, String key, List<String> columns);
+
+    /**
+     * Select ordered rows, the only parameter is the row limit.
+     */
+    public String selectTop(String columns, String table, String orderBy) {
+        return "SELECT " + columns + " FROM " + quote(table) + " ORDER BY " + orderBy + " LIMIT ?";
+    }
+
+    public String createTableIfNotExists(String table, String columns) {
+        return "CREATE TABLE IF NOT EXISTS " + quote(table) + " (" + columns + ")";
+    }
+
+    public String createIndexIfNotExists(String index, String table, String columns) {
+        return "CREATE INDEX IF NOT EXISTS " + quote(index) + " ON " + quote(table) + " (" + columns + ")";
+    }
+
+    /**
+     * Whether a failed DDL statement only hit an object that is already there.
+     */
+    public boolean isAlreadyExists(SQLException e) {
+        return false;
+    }
+
+    public String quote(String identifier) {
+        return openQuote + identifier + closeQuote;
+    }
+
+    public static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    String insert(String table, String key, List<String> columns) {
+        return "INSERT INTO " + quote(table) + " (" + columnList(key, columns, "") + ") VALUES (" + placeholders(columns.size() + 1) + ")";
+    }
+
+    // MySQL has no CREATE INDEX IF NOT EXISTS, an existing index fails with ER_DUP_KEYNAME instead
+    String createIndexOrFail(String index, String table, String columns) {
+        return "CREATE INDEX " + quote(index) + " ON " + quote(table) + " (" + columns + ")";
+    }
+
+    // unknown version strings keep VALUES(), which every MySQL version still accepts
+    static boolean supportsRowAlias(String serverVersion) {
+        Matcher matcher = SERVER_VERSION.matcher(serverVersion);
+        if (!matcher.find()) {
+            return false;
+        }
+
+        for (int i = 0; i < ROW_ALIAS_SINCE.length; i++) {
+            int part = Integer.parseInt(matcher.group(i + 1));
+            if (part != ROW_ALIAS_SINCE[i]) {
+                return part > ROW_ALIAS_SINCE[i];
+            }
+        }
+        return true;
+    }
+
+    static boolean isMySqlAlreadyExists(SQLException e) {
+        return e.getErrorCode() == ER_DUP_KEYNAME || e.getErrorCode() == ER_TABLE_EXISTS;
+    }
+
+    String columnList(String key, List<String> columns, String prefix) {
+        StringBuilder builder = new StringBuilder(prefix).append(quote(key));
+        for (String column : columns) {
+            builder.append(", ").append(prefix).append(quote(column));
+        }
+        return builder.toString();
+    }
+}
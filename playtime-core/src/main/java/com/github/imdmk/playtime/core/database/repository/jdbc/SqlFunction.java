@@ -0,0 +1,10 @@
+package com.github.imdmk.playtime.core.database.repository.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface SqlFunction<R> {
+
+    R apply(Connection connection) throws SQLException;
+}
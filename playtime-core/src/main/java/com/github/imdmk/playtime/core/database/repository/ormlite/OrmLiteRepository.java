@@ -4,7 +4,6 @@ import com.github.imdmk.playtime.core.database.DatabaseManager;
 import com.github.imdmk.playtime.core.database.repository.RepositoryBootstrap;
 import com.github.imdmk.playtime.core.database.repository.RepositoryInitializationException;
 import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
-import com.github.imdmk.playtime.core.platform.scheduler.TaskScheduler;
 import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
 import com.j256.ormlite.logger.Level;
@@ -17,7 +16,6 @@ import java.sql.SQLException;
 import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 public abstract class OrmLiteRepository<T, ID>
@@ -26,7 +24,6 @@ public abstract class OrmLiteRepository<T, ID>
     private static final Duration EXECUTE_TIMEOUT = Duration.ofSeconds(3);
 
     protected final PluginLogger logger;
-    protected final TaskScheduler scheduler;
     protected volatile Dao<T, ID> dao;
 
     private final DatabaseManager databaseManager;
@@ -34,11 +31,9 @@ public abstract class OrmLiteRepository<T, ID>
     @Inject
     protected OrmLiteRepository(
             PluginLogger logger,
-            TaskScheduler scheduler,
             DatabaseManager databaseManager
     ) {
         this.logger = logger;
-        this.scheduler = scheduler;
         this.databaseManager = databaseManager;
         configureOrmLiteLogger();
     }
@@ -87,19 +82,28 @@ public abstract class OrmLiteRepository<T, ID>
     }
 
     protected <R> CompletableFuture<R> execute(Supplier<R> supplier) {
+        return execute(supplier, EXECUTE_TIMEOUT);
+    }
+
+    protected <R> CompletableFuture<R> execute(Supplier<R> supplier, Duration timeout) {
         if (dao == null) {
             throw new IllegalStateException("Repository not initialized or already closed");
         }
 
-        CompletableFuture<R> future = new CompletableFuture<>();
-        scheduler.runAsync(() -> {
-            try {
-                future.complete(supplier.get());
-            } catch (Exception e) {
-                future.completeExceptionally(e);
-            }
-        });
-        return future.orTimeout(EXECUTE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        return databaseManager.executor().submit(supplier, timeout);
+    }
+
+    protected <R> CompletableFuture<R> executeWrite(Supplier<R> supplier) {
+        return executeWrite(supplier, EXECUTE_TIMEOUT);
+    }
+
+    // single-writer engines run these one after another in grouped transactions, never use it for plain reads
+    protected <R> CompletableFuture<R> executeWrite(Supplier<R> supplier, Duration timeout) {
+        if (dao == null) {
+            throw new IllegalStateException("Repository not initialized or already closed");
+        }
+
+        return databaseManager.executor().submitWrite(supplier, timeout);
     }
 
     private static void configureOrmLiteLogger() {
@@ -0,0 +1,201 @@
+package com.github.imdmk.playtime.core.feature.debug;
+
+import com.github.imdmk.playtime.core.database.DatabaseManager;
+import com.github.imdmk.playtime.core.database.DatabasePoolStats;
+import com.github.imdmk.playtime.core.database.executor.DatabaseExecutorStats;
+import com.github.imdmk.playtime.core.feature.playtime.PlayTimeUserLoadStats;
+import com.github.imdmk.playtime.core.feature.playtime.PlayTimeUserService;
+import com.github.imdmk.playtime.core.feature.playtime.command.PlayTimeCommandPermissions;
+import com.github.imdmk.playtime.core.feature.playtime.top.gui.SkullProfileCache;
+import com.github.imdmk.playtime.core.feature.playtime.top.gui.SkullProfileStats;
+import com.github.imdmk.playtime.core.injector.ComponentTiming;
+import com.github.imdmk.playtime.core.injector.StartupReport;
+import com.github.imdmk.playtime.core.injector.annotations.lite.LiteCommand;
+import com.github.imdmk.playtime.core.injector.subscriber.LocalPublisher;
+import com.github.imdmk.playtime.core.injector.subscriber.SubscriberMailboxStats;
+import com.github.imdmk.playtime.core.injector.subscriber.SubscriberTiming;
+import com.github.imdmk.playtime.core.message.MessageService;
+import com.github.imdmk.playtime.core.platform.gui.view.GuiOpenStats;
+import com.github.imdmk.playtime.core.platform.gui.view.GuiOpener;
+import dev.rollczi.litecommands.annotations.command.Command;
+import dev.rollczi.litecommands.annotations.context.Context;
+import dev.rollczi.litecommands.annotations.execute.Execute;
+import dev.rollczi.litecommands.annotations.permission.Permission;
+import org.bukkit.command.CommandSender;
+import org.panda_lang.utilities.inject.annotations.Inject;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@LiteCommand
+@Command(name = "playtime debug")
+@Permission(PlayTimeCommandPermissions.PLAYTIME_DEBUG)
+final class DebugCommand {
+
+    private static final int STARTUP_LIMIT = 10;
+
+    private final MessageService messageService;
+    private final PlayTimeUserService userService;
+    private final GuiOpener guiOpener;
+    private final SkullProfileCache skullProfiles;
+    private final StartupReport startupReport;
+    private final DatabaseManager databaseManager;
+    private final LocalPublisher publisher;
+
+    @Inject
+    DebugCommand(
+            MessageService messageService,
+            PlayTimeUserService userService,
+            GuiOpener guiOpener,
+            SkullProfileCache skullProfiles,
+            StartupReport startupReport,
+            DatabaseManager databaseManager,
+            LocalPublisher publisher
+    ) {
+        this.messageService = messageService;
+        this.userService = userService;
+        this.guiOpener = guiOpener;
+        this.skullProfiles = skullProfiles;
+        this.startupReport = startupReport;
+        this.databaseManager = databaseManager;
+        this.publisher = publisher;
+    }
+
+    @Execute(name = "users")
+    void users(@Context CommandSender sender) {
+        PlayTimeUserLoadStats stats = userService.loadStats();
+
+        Map<String, Object> entries = new LinkedHashMap<>();
+        entries.put("cache hits", stats.hits());
+        entries.put("database loads", stats.misses());
+        entries.put("coalesced loads", stats.coalesced());
+        entries.put("loads in flight", stats.inFlight());
+        entries.put("online users cached", stats.onlineCached());
+        entries.put("offline users cached", stats.offlineCached());
+        entries.put("offline hit rate", String.format("%.1f%%", stats.offlineHitRate() * 100));
+        entries.put("offline evictions", stats.offlineEvictions());
+
+        send(sender, "users", entries);
+    }
+
+    @Execute(name = "gui")
+    void gui(@Context CommandSender sender) {
+        Map<String, Object> entries = new LinkedHashMap<>();
+        for (GuiOpenStats stats : guiOpener.stats()) {
+            String id = stats.guiId();
+            entries.put(id + " opens", stats.opens());
+            entries.put(id + " prepare avg", millis(stats.averagePrepareMillis()));
+            entries.put(id + " main thread wait avg", millis(stats.averageSyncWaitMillis()));
+            entries.put(id + " main thread avg", millis(stats.averageSyncMillis()));
+            entries.put(id + " main thread max", millis(stats.maxSyncMillis()));
+        }
+
+        send(sender, "gui", entries);
+    }
+
+    @Execute(name = "skulls")
+    void skulls(@Context CommandSender sender) {
+        SkullProfileStats stats = skullProfiles.stats();
+
+        Map<String, Object> entries = new LinkedHashMap<>();
+        entries.put("profiles cached", stats.cached());
+        entries.put("hit rate", String.format("%.1f%%", stats.hitRate() * 100));
+        entries.put("evictions", stats.evictions());
+        entries.put("prefetched", stats.prefetched());
+        entries.put("failed lookups", stats.failures());
+        entries.put("lookups in flight", stats.inFlight());
+
+        send(sender, "skulls", entries);
+    }
+
+    @Execute(name = "database")
+    void database(@Context CommandSender sender) {
+        DatabaseExecutorStats stats = databaseManager.executor().stats();
+
+        Map<String, Object> entries = new LinkedHashMap<>();
+        entries.put("threads", stats.threads() + (stats.virtualThreads() ? " (virtual)" : ""));
+        entries.put("active queries", stats.active());
+        entries.put("queued queries", stats.queued() + "/" + stats.queueCapacity());
+        entries.put("completed", stats.completed());
+        entries.put("rejected", stats.rejected());
+        entries.put("timed out", stats.timedOut());
+        entries.put("queue wait avg", millis(stats.averageWaitMillis()));
+        entries.put("queue wait max", millis(stats.maxWaitMillis()));
+
+        if (stats.singleWriter()) {
+            entries.put("queued writes", stats.writesQueued());
+            entries.put("write commits", stats.commits());
+            entries.put("writes per commit avg", String.format("%.1f", stats.averageCommitSize()));
+            entries.put("retried write groups", stats.retriedGroups());
+        }
+
+        DatabasePoolStats pool = databaseManager.poolStats();
+        entries.put("pool connections", pool.active() + " active, " + pool.idle() + " idle, " + pool.total() + "/" + pool.maximum() + " total");
+        entries.put("pool waiting threads", pool.pending());
+        entries.put("pool acquired", pool.acquired());
+        entries.put("pool acquire avg", millis(pool.averageAcquireMillis()));
+        entries.put("pool acquire max", millis(pool.maxAcquireMillis()));
+        entries.put("pool usage avg", millis(pool.averageUsageMillis()));
+        entries.put("pool usage max", millis(pool.maxUsageMillis()));
+        entries.put("pool connections created", pool.created() + " (avg " + millis(pool.averageCreateMillis()) + ")");
+        entries.put("pool timeouts", pool.timeouts());
+
+        send(sender, "database", entries);
+    }
+
+    @Execute(name = "events")
+    void events(@Context CommandSender sender) {
+        Map<String, Object> entries = new LinkedHashMap<>();
+        for (SubscriberMailboxStats stats : publisher.mailboxStats()) {
+            String id = stats.type().getSimpleName() + "#" + stats.method();
+            entries.put(id + " queued", stats.queued() + "/" + stats.capacity());
+            entries.put(id + " dropped", stats.dropped());
+        }
+
+        send(sender, "events", entries);
+    }
+
+    @Execute(name = "startup")
+    void startup(@Context CommandSender sender) {
+        Map<String, Object> entries = new LinkedHashMap<>();
+        entries.put("total", StartupReport.millis(startupReport.totalNanos()));
+        entries.put("component scan", StartupReport.millis(startupReport.scanNanos()));
+        entries.put("components", startupReport.components().size());
+        entries.put("dependency layers", startupReport.layers());
+
+        for (ComponentTiming timing : startupReport.components().stream().limit(STARTUP_LIMIT).toList()) {
+            entries.put(timing.type().getSimpleName(), String.format(
+                    "%s (create %s, prepare %s, process %s)",
+                    StartupReport.millis(timing.totalNanos()),
+                    StartupReport.millis(timing.instantiateNanos()),
+                    StartupReport.millis(timing.prepareNanos()),
+                    StartupReport.millis(timing.processNanos())
+            ));
+        }
+
+        for (SubscriberTiming timing : startupReport.initializeHandlers().stream().limit(STARTUP_LIMIT).toList()) {
+            entries.put(timing.type().getSimpleName() + "#" + timing.method(), StartupReport.millis(timing.nanos()));
+        }
+
+        send(sender, "startup", entries);
+    }
+
+    private static String millis(double millis) {
+        return String.format("%.2fms", millis);
+    }
+
+    private void send(CommandSender sender, String section, Map<String, Object> entries) {
+        messageService.create()
+                .viewer(sender)
+                .notice(n -> n.debugMessages.debugHeader())
+                .placeholder("{SECTION}", section)
+                .send();
+
+        entries.forEach((name, value) -> messageService.create()
+                .viewer(sender)
+                .notice(n -> n.debugMessages.debugEntry())
+                .placeholder("{NAME}", name)
+                .placeholder("{VALUE}", String.valueOf(value))
+                .send());
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.imdmk.playtime.core.feature.debug.message;
+
+import com.eternalcode.multification.notice.Notice;
+
+public interface DebugMessages {
+
+    Notice debugHeader();
+
+    Notice debugEntry();
+}
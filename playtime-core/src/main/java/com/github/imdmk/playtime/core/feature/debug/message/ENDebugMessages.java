@@ -0,0 +1,39 @@
+package com.github.imdmk.playtime.core.feature.debug.message;
+
+import com.eternalcode.multification.notice.Notice;
+import eu.okaeri.configs.OkaeriConfig;
+import eu.okaeri.configs.annotation.Comment;
+
+public final class ENDebugMessages extends OkaeriConfig implements DebugMessages {
+
+    @Comment({
+            "# Header shown before the values of a /playtime debug section.",
+            "# ",
+            "# Placeholders:",
+            "#  {SECTION} - name of the debug section (e.g. users)."
+    })
+    Notice debugHeader = Notice.chat(
+            "<dark_gray>• <red>PlayTime debug <gray>({SECTION})<dark_gray>:"
+    );
+
+    @Comment({
+            "# Single value listed under 'debugHeader'.",
+            "# ",
+            "# Placeholders:",
+            "#  {NAME} - name of the value.",
+            "#  {VALUE} - current value."
+    })
+    Notice debugEntry = Notice.chat(
+            "<dark_gray>  ▸ <gray>{NAME}: <red>{VALUE}"
+    );
+
+    @Override
+    public Notice debugHeader() {
+        return debugHeader;
+    }
+
+    @Override
+    public Notice debugEntry() {
+        return debugEntry;
+    }
+}
@@ -2,8 +2,15 @@ package com.github.imdmk.playtime.core.feature.playtime;
 
 import com.github.imdmk.playtime.api.PlayTime;
 import com.github.imdmk.playtime.api.PlayTimeApi;
+import com.github.imdmk.playtime.core.feature.playtime.top.PlayTimeTopService;
+import com.github.imdmk.playtime.core.platform.scheduler.TaskScheduler;
 import org.panda_lang.utilities.inject.annotations.Inject;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -11,14 +18,20 @@ public final class PlayTimeApiAdapter implements PlayTimeApi {
 
     private final PlayTimeService playTimeService;
     private final PlayTimeUserService userService;
+    private final PlayTimeTopService topService;
+    private final TaskScheduler scheduler;
 
     @Inject
     PlayTimeApiAdapter(
             PlayTimeService playTimeService,
-            PlayTimeUserService userService
+            PlayTimeUserService userService,
+            PlayTimeTopService topService,
+            TaskScheduler scheduler
     ) {
         this.playTimeService = playTimeService;
         this.userService = userService;
+        this.topService = topService;
+        this.scheduler = scheduler;
     }
 
     @Override
@@ -29,7 +42,31 @@ public final class PlayTimeApiAdapter implements PlayTimeApi {
 
     @Override
     public CompletableFuture<Void> setTime(UUID uuid, PlayTime time) {
+        // online players get their statistic written, which has to happen on the main thread
         return userService.getOrLoadUser(uuid)
-                .thenAccept(user -> playTimeService.setPlayTime(user, time));
+                .thenComposeAsync(user -> {
+                    playTimeService.setPlayTime(user, time);
+                    return userService.saveUser(user);
+                }, scheduler::runSyncIfNeeded)
+                .thenAccept(saved -> {});
+    }
+
+    @Override
+    public CompletableFuture<Set<UUID>> setTimes(Map<UUID, PlayTime> times) {
+        return userService.getOrLoadUsers(times.keySet())
+                .thenComposeAsync(users -> {
+                    Map<PlayTimeUser, PlayTime> playTimes = new HashMap<>(users.size());
+                    users.forEach((uuid, user) -> playTimes.put(user, times.get(uuid)));
+                    playTimeService.setPlayTimes(playTimes);
+
+                    Set<UUID> skipped = new HashSet<>(times.keySet());
+                    skipped.removeAll(users.keySet());
+                    return userService.saveUsers(playTimes.keySet()).thenApply(saved -> skipped);
+                }, scheduler::runSyncIfNeeded);
+    }
+
+    @Override
+    public OptionalInt getRank(UUID uuid) {
+        return topService.getRank(uuid);
     }
 }
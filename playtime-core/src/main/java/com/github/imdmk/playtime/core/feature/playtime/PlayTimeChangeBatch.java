@@ -0,0 +1,68 @@
+package com.github.imdmk.playtime.core.feature.playtime;
+
+import com.github.imdmk.playtime.api.event.AsyncPlayTimeBatchChangedEvent;
+import com.github.imdmk.playtime.api.event.PlayTimeBatchChangedEvent;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Collects playtime changes of a bulk operation into the arrays backing a single batch event.
+ * Not thread-safe.
+ */
+public final class PlayTimeChangeBatch {
+
+    private UUID[] playerIds;
+    private long[] oldMillis;
+    private long[] newMillis;
+    private int size;
+
+    public PlayTimeChangeBatch(int expectedSize) {
+        int capacity = Math.max(1, expectedSize);
+        this.playerIds = new UUID[capacity];
+        this.oldMillis = new long[capacity];
+        this.newMillis = new long[capacity];
+    }
+
+    public void add(UUID playerId, long oldMillis, long newMillis) {
+        if (oldMillis == newMillis) {
+            return;
+        }
+
+        if (size == playerIds.length) {
+            int capacity = size * 2;
+            this.playerIds = Arrays.copyOf(playerIds, capacity);
+            this.oldMillis = Arrays.copyOf(this.oldMillis, capacity);
+            this.newMillis = Arrays.copyOf(this.newMillis, capacity);
+        }
+
+        this.playerIds[size] = playerId;
+        this.oldMillis[size] = oldMillis;
+        this.newMillis[size] = newMillis;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    PlayTimeBatchChangedEvent toEvent() {
+        return new PlayTimeBatchChangedEvent(
+                Arrays.copyOf(playerIds, size),
+                Arrays.copyOf(oldMillis, size),
+                Arrays.copyOf(newMillis, size)
+        );
+    }
+
+    AsyncPlayTimeBatchChangedEvent toAsyncEvent() {
+        return new AsyncPlayTimeBatchChangedEvent(
+                Arrays.copyOf(playerIds, size),
+                Arrays.copyOf(oldMillis, size),
+                Arrays.copyOf(newMillis, size)
+        );
+    }
+}
@@ -6,7 +6,9 @@ import com.github.imdmk.playtime.core.injector.subscriber.Subscribe;
 import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeShutdownEvent;
 import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
 import com.github.imdmk.playtime.core.platform.playtime.PlayTimeAdapter;
+import com.github.imdmk.playtime.core.time.DurationService;
 import org.bukkit.Server;
+import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
@@ -14,8 +16,13 @@ import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.server.ServerLoadEvent;
 import org.panda_lang.utilities.inject.annotations.Inject;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @PluginListener
 final class PlayTimeListener implements Listener {
@@ -24,38 +31,86 @@ final class PlayTimeListener implements Listener {
     private final PluginLogger logger;
     private final PlayTimeAdapter adapter;
     private final PlayTimeUserService userService;
+    private final DurationService durationService;
 
     @Inject
     PlayTimeListener(
             Server server,
             PluginLogger logger,
             PlayTimeAdapter adapter,
-            PlayTimeUserService userService
+            PlayTimeUserService userService,
+            DurationService durationService
     ) {
         this.server = server;
         this.logger = logger;
         this.adapter = adapter;
         this.userService = userService;
+        this.durationService = durationService;
     }
 
     @EventHandler
     void onJoin(PlayerJoinEvent event) {
+        userService.markOnline(event.getPlayer().getUniqueId());
         loadPlayer(event.getPlayer().getUniqueId(), event.getPlayer().getName());
     }
 
     @EventHandler
     void onReload(ServerLoadEvent event) {
-        server.getOnlinePlayers().forEach(p -> loadPlayer(p.getUniqueId(), p.getName()));
+        Map<UUID, String> players = onlinePlayers();
+        if (players.isEmpty()) {
+            return;
+        }
+
+        players.keySet().forEach(userService::markOnline);
+        userService.getOrLoadUsers(players.keySet())
+                .thenCompose(users -> {
+                    List<PlayTimeUser> created = new ArrayList<>();
+                    players.forEach((uuid, name) -> {
+                        PlayTimeUser user = users.get(uuid);
+                        if (user == null) {
+                            created.add(new PlayTimeUser(uuid, name, adapter.read(uuid)));
+                            return;
+                        }
+
+                        user.setName(name);
+                        adapter.write(uuid, user.getPlayTime());
+                    });
+
+                    return userService.saveUsers(created);
+                })
+                .exceptionally(e -> {
+                    logger.error(e, "Failed to load %d online users", players.size());
+                    return null;
+                });
     }
 
     @EventHandler
     void onQuit(PlayerQuitEvent event) {
-        saveUser(event.getPlayer().getUniqueId());
+        UUID uuid = event.getPlayer().getUniqueId();
+        saveUser(uuid);
+        userService.markOffline(uuid);
+        durationService.invalidate(uuid);
     }
 
+    // subscribed after the save queue, so under the reverse shutdown order this queues before the queue drains
     @Subscribe(event = PlayTimeShutdownEvent.class)
     void onShutdown(PlayTimeShutdownEvent event) {
-        server.getOnlinePlayers().forEach(p -> saveUser(p.getUniqueId()));
+        Map<UUID, String> players = onlinePlayers();
+        if (players.isEmpty()) {
+            return;
+        }
+
+        // online users are pinned in the cache, so this only waits on the database for users whose join load failed
+        Map<UUID, PlayTimeUser> users;
+        try {
+            users = userService.getOrLoadUsers(players.keySet()).join();
+        } catch (CompletionException e) {
+            logger.error(e.getCause(), "Failed to save %d online users", players.size());
+            return;
+        }
+
+        users.forEach((uuid, user) -> user.setPlayTime(adapter.read(uuid)));
+        userService.saveUsers(users.values());
     }
 
     private void loadPlayer(UUID uuid, String name) {
@@ -68,6 +123,7 @@ final class PlayTimeListener implements Listener {
 
                     user.setName(name);
                     adapter.write(uuid, user.getPlayTime());
+                    durationService.invalidate(uuid);
 
                     return CompletableFuture.completedFuture(user);
                 })
@@ -93,4 +149,12 @@ final class PlayTimeListener implements Listener {
                     return null;
                 });
     }
-}
\ No newline at end of file
+
+    private Map<UUID, String> onlinePlayers() {
+        Map<UUID, String> players = new HashMap<>();
+        for (Player player : server.getOnlinePlayers()) {
+            players.put(player.getUniqueId(), player.getName());
+        }
+        return players;
+    }
+}
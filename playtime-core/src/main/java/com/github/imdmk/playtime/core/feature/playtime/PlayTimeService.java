@@ -1,13 +1,19 @@
 package com.github.imdmk.playtime.core.feature.playtime;
 
 import com.github.imdmk.playtime.api.PlayTime;
+import com.github.imdmk.playtime.api.event.AsyncPlayTimeBatchChangedEvent;
+import com.github.imdmk.playtime.api.event.PlayTimeBatchChangedEvent;
 import com.github.imdmk.playtime.api.event.PlayTimeChangedEvent;
+import com.github.imdmk.playtime.core.feature.playtime.top.PlayTimeRankIndex;
 import com.github.imdmk.playtime.core.injector.ComponentPriority;
 import com.github.imdmk.playtime.core.injector.annotations.Service;
 import com.github.imdmk.playtime.core.platform.event.EventCaller;
 import com.github.imdmk.playtime.core.platform.playtime.PlayTimeAdapter;
+import com.github.imdmk.playtime.core.time.DurationService;
+import org.bukkit.event.HandlerList;
 import org.panda_lang.utilities.inject.annotations.Inject;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service(priority = ComponentPriority.HIGH)
@@ -15,11 +21,20 @@ public final class PlayTimeService {
 
     private final PlayTimeAdapter adapter;
     private final EventCaller eventCaller;
+    private final PlayTimeRankIndex rankIndex;
+    private final DurationService durationService;
 
     @Inject
-    public PlayTimeService(PlayTimeAdapter adapter, EventCaller eventCaller) {
+    public PlayTimeService(
+            PlayTimeAdapter adapter,
+            EventCaller eventCaller,
+            PlayTimeRankIndex rankIndex,
+            DurationService durationService
+    ) {
         this.adapter = adapter;
         this.eventCaller = eventCaller;
+        this.rankIndex = rankIndex;
+        this.durationService = durationService;
     }
 
     public PlayTime getCurrentPlayTime(PlayTimeUser user) {
@@ -28,12 +43,47 @@ public final class PlayTimeService {
     }
 
     public void setPlayTime(PlayTimeUser user, PlayTime newPlayTime) {
+        PlayTime oldPlayTime = apply(user, newPlayTime);
+        eventCaller.callEvent(new PlayTimeChangedEvent(user.getUuid(), newPlayTime, oldPlayTime));
+    }
+
+    public void setPlayTimes(Map<PlayTimeUser, PlayTime> playTimes) {
+        PlayTimeChangeBatch batch = new PlayTimeChangeBatch(playTimes.size());
+        playTimes.forEach((user, newPlayTime) -> {
+            PlayTime oldPlayTime = apply(user, newPlayTime);
+            batch.add(user.getUuid(), oldPlayTime.millis(), newPlayTime.millis());
+        });
+
+        publish(batch);
+    }
+
+    // one event per batch instead of one per player, and nothing at all when no plugin listens
+    public void publish(PlayTimeChangeBatch batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        if (hasListeners(PlayTimeBatchChangedEvent.getHandlerList())) {
+            eventCaller.callEvent(batch.toEvent());
+        }
+        if (hasListeners(AsyncPlayTimeBatchChangedEvent.getHandlerList())) {
+            eventCaller.callEvent(batch.toAsyncEvent());
+        }
+    }
+
+    private PlayTime apply(PlayTimeUser user, PlayTime newPlayTime) {
         UUID uuid = user.getUuid();
         PlayTime oldPlayTime = user.getPlayTime();
 
         user.setPlayTime(newPlayTime);
         adapter.write(uuid, newPlayTime);
+        rankIndex.update(user);
+        durationService.invalidate(uuid);
+
+        return oldPlayTime;
+    }
 
-        eventCaller.callEvent(new PlayTimeChangedEvent(uuid, newPlayTime, oldPlayTime));
+    private static boolean hasListeners(HandlerList handlers) {
+        return handlers.getRegisteredListeners().length > 0;
     }
 }
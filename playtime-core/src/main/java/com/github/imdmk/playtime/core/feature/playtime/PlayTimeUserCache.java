@@ -1,48 +1,100 @@
 package com.github.imdmk.playtime.core.feature.playtime;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.imdmk.playtime.api.PlayTime;
 import com.github.imdmk.playtime.core.injector.ComponentPriority;
 import com.github.imdmk.playtime.core.injector.annotations.Service;
 import com.github.imdmk.playtime.core.injector.subscriber.Subscribe;
 import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeShutdownEvent;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
+import org.panda_lang.utilities.inject.annotations.Inject;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Service(priority = ComponentPriority.LOWEST)
 final class PlayTimeUserCache {
 
-    private final Map<UUID, PlayTimeUser> usersByUuid = new ConcurrentHashMap<>();
+    // online players are pinned and never evicted, everyone else lives in the bounded tier
+    private final Set<UUID> onlineUuids = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, PlayTimeUser> onlineUsers = new ConcurrentHashMap<>();
+    private final Cache<UUID, PlayTimeUser> offlineUsers;
+
     private final Map<String, UUID> uuidByName = new ConcurrentHashMap<>();
 
+    @Inject
+    PlayTimeUserCache(PlayTimeUserConfig config) {
+        this.offlineUsers = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, config.offlineCacheMaximumSize))
+                .expireAfterAccess(config.offlineCacheExpireAfterAccess)
+                .evictionListener(this::onEviction)
+                .recordStats()
+                .build();
+    }
+
     void put(PlayTimeUser user) {
-        usersByUuid.put(user.getUuid(), user);
-        uuidByName.put(user.getName(), user.getUuid());
+        UUID uuid = user.getUuid();
+        if (onlineUuids.contains(uuid)) {
+            onlineUsers.put(uuid, user);
+        } else {
+            offlineUsers.put(uuid, user);
+        }
+
+        uuidByName.put(user.getName(), uuid);
+    }
+
+    void markOnline(UUID uuid) {
+        onlineUuids.add(uuid);
+
+        PlayTimeUser user = offlineUsers.asMap().remove(uuid);
+        if (user != null) {
+            onlineUsers.put(uuid, user);
+        }
+    }
+
+    void markOffline(UUID uuid) {
+        onlineUuids.remove(uuid);
+
+        PlayTimeUser user = onlineUsers.remove(uuid);
+        if (user != null) {
+            offlineUsers.put(uuid, user);
+        }
     }
 
     @Nullable
     PlayTimeUser getByUuid(UUID uuid) {
-        return usersByUuid.get(uuid);
+        PlayTimeUser user = onlineUsers.get(uuid);
+        return user != null ? user : offlineUsers.getIfPresent(uuid);
     }
 
     @Nullable
     PlayTimeUser getByName(String name) {
         UUID uuid = uuidByName.get(name);
-        return uuid != null ? usersByUuid.get(uuid) : null;
+        return uuid != null ? getByUuid(uuid) : null;
     }
 
     @Unmodifiable
     Collection<PlayTimeUser> values() {
-        return Collections.unmodifiableCollection(usersByUuid.values());
+        List<PlayTimeUser> users = new ArrayList<>(onlineUsers.values());
+        users.addAll(offlineUsers.asMap().values());
+        return Collections.unmodifiableList(users);
     }
 
     @Unmodifiable
     Collection<UUID> uuids() {
-        return Collections.unmodifiableCollection(usersByUuid.keySet());
+        List<UUID> uuids = new ArrayList<>(onlineUsers.keySet());
+        uuids.addAll(offlineUsers.asMap().keySet());
+        return Collections.unmodifiableList(uuids);
     }
 
     @Unmodifiable
@@ -51,13 +103,39 @@ final class PlayTimeUserCache {
     }
 
     void remove(PlayTimeUser user) {
-        usersByUuid.remove(user.getUuid());
-        uuidByName.remove(user.getName());
+        onlineUsers.remove(user.getUuid());
+        offlineUsers.invalidate(user.getUuid());
+        uuidByName.remove(user.getName(), user.getUuid());
+    }
+
+    void resetPlayTimes() {
+        onlineUsers.values().forEach(user -> user.setPlayTime(PlayTime.ZERO));
+        offlineUsers.asMap().values().forEach(user -> user.setPlayTime(PlayTime.ZERO));
+    }
+
+    int onlineSize() {
+        return onlineUsers.size();
+    }
+
+    long offlineSize() {
+        return offlineUsers.estimatedSize();
+    }
+
+    CacheStats offlineStats() {
+        return offlineUsers.stats();
+    }
+
+    private void onEviction(@Nullable UUID uuid, @Nullable PlayTimeUser user, RemovalCause cause) {
+        if (uuid != null && user != null) {
+            uuidByName.remove(user.getName(), uuid);
+        }
     }
 
     @Subscribe(event = PlayTimeShutdownEvent.class)
     private void shutdown() {
-        usersByUuid.clear();
+        onlineUuids.clear();
+        onlineUsers.clear();
+        offlineUsers.invalidateAll();
         uuidByName.clear();
     }
 }
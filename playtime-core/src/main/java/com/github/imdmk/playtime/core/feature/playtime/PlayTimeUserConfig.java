@@ -0,0 +1,78 @@
+package com.github.imdmk.playtime.core.feature.playtime;
+
+import com.github.imdmk.playtime.core.config.ConfigSection;
+import com.github.imdmk.playtime.core.injector.annotations.ConfigFile;
+import eu.okaeri.configs.annotation.Comment;
+import eu.okaeri.configs.serdes.OkaeriSerdesPack;
+
+import java.time.Duration;
+
+@ConfigFile
+public final class PlayTimeUserConfig extends ConfigSection {
+
+    @Comment({
+            "#",
+            "# Maximum number of users written to the database in a single transaction.",
+            "#",
+            "# Saves are queued and coalesced per player, then flushed in batches of this size.",
+            "#",
+            "# Recommended:",
+            "#  - 50–200",
+            "#"
+    })
+    public int saveBatchSize = 100;
+
+    @Comment({
+            "#",
+            "# How many pending saves trigger an immediate flush, without waiting for the interval.",
+            "#",
+            "# Keeps mass disconnects (restarts, proxy failover) from piling up in memory.",
+            "#"
+    })
+    public int saveFlushThreshold = 100;
+
+    @Comment({
+            "#",
+            "# How often pending saves are flushed to the database.",
+            "#",
+            "# All pending saves are always flushed on plugin shutdown.",
+            "#",
+            "# Recommended:",
+            "#  - 10–60 seconds",
+            "#"
+    })
+    public Duration saveFlushInterval = Duration.ofSeconds(30);
+
+    @Comment({
+            "#",
+            "# Maximum number of offline users kept in memory.",
+            "#",
+            "# Online players are always cached and do not count towards this limit.",
+            "# Offline users are cached after lookups (commands, API) and evicted when the limit is reached.",
+            "#",
+            "# Recommended:",
+            "#  - 500–5000",
+            "#"
+    })
+    public long offlineCacheMaximumSize = 1000;
+
+    @Comment({
+            "#",
+            "# How long an offline user stays cached after it was last accessed.",
+            "#",
+            "# Recommended:",
+            "#  - 5–30 minutes",
+            "#"
+    })
+    public Duration offlineCacheExpireAfterAccess = Duration.ofMinutes(15);
+
+    @Override
+    public OkaeriSerdesPack serdesPack() {
+        return registry -> {};
+    }
+
+    @Override
+    public String fileName() {
+        return "playtime-users.yml";
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.imdmk.playtime.core.feature.playtime;
+
+public record PlayTimeUserLoadStats(
+        long hits,
+        long misses,
+        long coalesced,
+        int inFlight,
+        int onlineCached,
+        long offlineCached,
+        double offlineHitRate,
+        long offlineEvictions
+) {
+}
@@ -0,0 +1,245 @@
+package com.github.imdmk.playtime.core.feature.playtime;
+
+import com.github.imdmk.playtime.api.PlayTime;
+import com.github.imdmk.playtime.core.feature.playtime.repository.PlayTimeUserRepository;
+import com.github.imdmk.playtime.core.injector.annotations.Service;
+import com.github.imdmk.playtime.core.injector.subscriber.Subscribe;
+import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeInitializeEvent;
+import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeShutdownEvent;
+import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
+import com.github.imdmk.playtime.core.platform.scheduler.TaskScheduler;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import org.jetbrains.annotations.Nullable;
+import org.panda_lang.utilities.inject.annotations.Inject;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Service
+final class PlayTimeUserSaveQueue {
+
+    private static final int SHUTDOWN_FLUSH_ATTEMPTS = 3;
+    private static final Duration SHUTDOWN_RETRY_DELAY = Duration.ofMillis(500);
+
+    private final PluginLogger logger;
+    private final TaskScheduler scheduler;
+    private final PlayTimeUserConfig config;
+    private final PlayTimeUserRepository repository;
+
+    private final Map<UUID, PendingSave> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Inject
+    PlayTimeUserSaveQueue(
+            PluginLogger logger,
+            TaskScheduler scheduler,
+            PlayTimeUserConfig config,
+            PlayTimeUserRepository repository
+    ) {
+        this.logger = logger;
+        this.scheduler = scheduler;
+        this.config = config;
+        this.repository = repository;
+    }
+
+    CompletableFuture<PlayTimeUser> enqueue(PlayTimeUser user) {
+        long version = sequence.incrementAndGet();
+        PendingSave save = pending.compute(user.getUuid(), (uuid, current) -> current == null
+                ? new PendingSave(user, new CompletableFuture<>(), version)
+                : new PendingSave(user, current.future(), version));
+
+        if (pending.size() >= config.saveFlushThreshold) {
+            requestFlush();
+        }
+
+        return save.future();
+    }
+
+    @Nullable
+    PlayTimeUser pending(UUID uuid) {
+        PendingSave save = pending.get(uuid);
+        return save != null ? save.user() : null;
+    }
+
+    // entries stay queued until their batch commits, so a load during the write still sees the newest value
+    void flush() {
+        flushLock.lock();
+        try {
+            List<PendingSave> saves = List.copyOf(pending.values());
+            int batchSize = Math.max(1, config.saveBatchSize);
+            for (int from = 0; from < saves.size(); from += batchSize) {
+                write(saves.subList(from, Math.min(from + batchSize, saves.size())));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // holds the flush lock for the whole reset, so no queued save can write an older playtime over it
+    CompletableFuture<Void> resetAll(Runnable resetCached) {
+        return exclusive(() -> {
+            List<PendingSave> discarded = drain();
+            try {
+                repository.resetAllPlayTimes().join();
+            } catch (CompletionException e) {
+                // the reset did not happen, the queued saves are still the latest values
+                discarded.forEach(save -> pending.putIfAbsent(save.user().getUuid(), save));
+                throw e;
+            }
+
+            for (PendingSave save : discarded) {
+                save.user().setPlayTime(PlayTime.ZERO);
+                save.future().complete(save.user());
+            }
+
+            resetCached.run();
+            return null;
+        });
+    }
+
+    // same as the reset, a queued save would recreate the deleted row
+    CompletableFuture<Boolean> delete(UUID uuid, Runnable removeCached) {
+        return exclusive(() -> {
+            PendingSave discarded = pending.remove(uuid);
+            boolean deleted;
+            try {
+                deleted = repository.deleteByUuid(uuid).join();
+            } catch (CompletionException e) {
+                if (discarded != null) {
+                    pending.putIfAbsent(uuid, discarded);
+                }
+                throw e;
+            }
+
+            if (discarded != null) {
+                discarded.future().complete(discarded.user());
+            }
+
+            removeCached.run();
+            return deleted;
+        });
+    }
+
+    private <R> CompletableFuture<R> exclusive(Supplier<R> action) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        scheduler.runAsync(() -> {
+            flushLock.lock();
+            try {
+                future.complete(action.get());
+            } catch (CompletionException e) {
+                future.completeExceptionally(e.getCause());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            } finally {
+                flushLock.unlock();
+            }
+        });
+        return future;
+    }
+
+    private List<PendingSave> drain() {
+        List<PendingSave> drained = new ArrayList<>(pending.size());
+        Iterator<UUID> iterator = pending.keySet().iterator();
+        while (iterator.hasNext()) {
+            PendingSave save = pending.remove(iterator.next());
+            if (save != null) {
+                drained.add(save);
+            }
+        }
+        return drained;
+    }
+
+    private void write(List<PendingSave> batch) {
+        List<PlayTimeUser> users = batch.stream()
+                .map(PendingSave::user)
+                .toList();
+
+        try {
+            repository.saveAll(users).join();
+        } catch (CompletionException e) {
+            // stays queued with the caller's future, which completes once a later flush gets it through
+            logger.error(e.getCause(), "Failed to flush %d pending user saves, retrying on next flush", users.size());
+            return;
+        }
+
+        for (PendingSave save : batch) {
+            // a newer save queued during the write keeps the shared future until it is written too
+            if (pending.remove(save.user().getUuid(), save)) {
+                save.future().complete(save.user());
+            }
+        }
+    }
+
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            scheduler.runAsync(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        } catch (IllegalPluginAccessException e) {
+            // plugin is disabling, the shutdown drain writes everything that is left
+            flushRequested.set(false);
+        }
+    }
+
+    @Subscribe(event = PlayTimeInitializeEvent.class)
+    private void initialize() {
+        Duration interval = config.saveFlushInterval;
+        scheduler.runTimerAsync(this::flush, interval, interval);
+    }
+
+    @Subscribe(event = PlayTimeShutdownEvent.class)
+    private void shutdown() {
+        int remaining = pending.size();
+        if (remaining == 0) {
+            return;
+        }
+
+        for (int attempt = 1; attempt <= SHUTDOWN_FLUSH_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            if (attempt > 1 && !sleep(SHUTDOWN_RETRY_DELAY.multipliedBy(attempt - 1))) {
+                break;
+            }
+            flush();
+        }
+
+        int failed = pending.size();
+        if (failed > 0) {
+            logger.warn("Failed to save %d of %d pending users on shutdown after %d attempts", failed, remaining, SHUTDOWN_FLUSH_ATTEMPTS);
+
+            IllegalStateException cause = new IllegalStateException("Plugin shut down before the save was written");
+            pending.values().forEach(save -> save.future().completeExceptionally(cause));
+            pending.clear();
+        }
+    }
+
+    private static boolean sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // the version tells a save apart from a newer one for the same user instance
+    private record PendingSave(PlayTimeUser user, CompletableFuture<PlayTimeUser> future, long version) {
+    }
+}
@@ -1,28 +1,50 @@
 package com.github.imdmk.playtime.core.feature.playtime;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.github.imdmk.playtime.api.PlayTime;
 import com.github.imdmk.playtime.core.feature.playtime.repository.PlayTimeUserRepository;
+import com.github.imdmk.playtime.core.feature.playtime.top.PlayTimeRankIndex;
 import com.github.imdmk.playtime.core.injector.annotations.Service;
 import org.panda_lang.utilities.inject.annotations.Inject;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 @Service
 public final class PlayTimeUserService {
 
     private final PlayTimeUserCache cache;
     private final PlayTimeUserRepository repository;
+    private final PlayTimeUserSaveQueue saveQueue;
+    private final PlayTimeRankIndex rankIndex;
+
+    private final Map<UUID, CompletableFuture<PlayTimeUser>> loadsByUuid = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<PlayTimeUser>> loadsByName = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
 
     @Inject
     PlayTimeUserService(
             PlayTimeUserCache cache,
-            PlayTimeUserRepository repository
+            PlayTimeUserRepository repository,
+            PlayTimeUserSaveQueue saveQueue,
+            PlayTimeRankIndex rankIndex
     ) {
         this.cache = cache;
         this.repository = repository;
+        this.saveQueue = saveQueue;
+        this.rankIndex = rankIndex;
     }
 
     public Optional<PlayTimeUser> getUser(UUID uuid) {
@@ -36,30 +58,51 @@ public final class PlayTimeUserService {
     public CompletableFuture<PlayTimeUser> getOrLoadUser(UUID uuid) {
         PlayTimeUser cached = cache.getByUuid(uuid);
         if (cached != null) {
+            hits.increment();
             return CompletableFuture.completedFuture(cached);
         }
 
-        return repository.findByUuid(uuid)
-                .thenApply(user -> {
-                    if (user != null) {
-                        cache.put(user);
-                    }
-                    return user;
-                });
+        return load(loadsByUuid, uuid, () -> cache.getByUuid(uuid), () -> {
+            // an evicted user may still wait in the save queue, which is newer than the database
+            PlayTimeUser queued = saveQueue.pending(uuid);
+            return queued != null ? CompletableFuture.completedFuture(queued) : repository.findByUuid(uuid);
+        });
     }
 
     public CompletableFuture<PlayTimeUser> getOrLoadUser(String name) {
         PlayTimeUser cached = cache.getByName(name);
         if (cached != null) {
+            hits.increment();
             return CompletableFuture.completedFuture(cached);
         }
 
-        return repository.findByName(name)
-                .thenApply(user -> {
-                    if (user != null) {
+        return load(loadsByName, name, () -> cache.getByName(name), () -> repository.findByName(name));
+    }
+
+    public CompletableFuture<Map<UUID, PlayTimeUser>> getOrLoadUsers(Collection<UUID> uuids) {
+        Map<UUID, PlayTimeUser> users = new HashMap<>(uuids.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID uuid : uuids) {
+            PlayTimeUser cached = cache.getByUuid(uuid);
+            if (cached != null) {
+                users.put(uuid, cached);
+            } else {
+                missing.add(uuid);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return CompletableFuture.completedFuture(users);
+        }
+
+        return repository.findByUuids(missing)
+                .thenApply(loaded -> {
+                    for (PlayTimeUser stored : loaded) {
+                        PlayTimeUser user = preferQueued(stored);
                         cache.put(user);
+                        users.put(user.getUuid(), user);
                     }
-                    return user;
+                    return users;
                 });
     }
 
@@ -70,10 +113,114 @@ public final class PlayTimeUserService {
 
     public CompletableFuture<PlayTimeUser> saveUser(PlayTimeUser user) {
         cache.put(user);
-        return repository.save(user);
+        rankIndex.update(user);
+        return saveQueue.enqueue(user);
+    }
+
+    public CompletableFuture<Void> saveUsers(Collection<PlayTimeUser> users) {
+        CompletableFuture<?>[] saves = new CompletableFuture<?>[users.size()];
+
+        int index = 0;
+        for (PlayTimeUser user : users) {
+            cache.put(user);
+            rankIndex.update(user);
+            saves[index++] = saveQueue.enqueue(user);
+        }
+
+        return CompletableFuture.allOf(saves);
+    }
+
+    // runs through the save queue, a save queued before the reset would otherwise bring the old playtime back
+    public CompletableFuture<Void> resetAllPlayTimes() {
+        return saveQueue.resetAll(() -> {
+            cache.resetPlayTimes();
+            rankIndex.resetAll();
+        });
+    }
+
+    public CompletableFuture<Boolean> deleteUser(UUID uuid) {
+        return saveQueue.delete(uuid, () -> {
+            PlayTimeUser cached = cache.getByUuid(uuid);
+            if (cached != null) {
+                cache.remove(cached);
+            }
+            rankIndex.remove(uuid);
+        });
+    }
+
+    void markOnline(UUID uuid) {
+        cache.markOnline(uuid);
+    }
+
+    void markOffline(UUID uuid) {
+        cache.markOffline(uuid);
     }
 
     public Collection<String> cachedNames() {
         return cache.names();
     }
+
+    public PlayTimeUserLoadStats loadStats() {
+        CacheStats offlineStats = cache.offlineStats();
+        return new PlayTimeUserLoadStats(
+                hits.sum(),
+                misses.sum(),
+                coalesced.sum(),
+                loadsByUuid.size() + loadsByName.size(),
+                cache.onlineSize(),
+                cache.offlineSize(),
+                offlineStats.hitRate(),
+                offlineStats.evictionCount()
+        );
+    }
+
+    private PlayTimeUser preferQueued(PlayTimeUser stored) {
+        PlayTimeUser queued = saveQueue.pending(stored.getUuid());
+        return queued != null ? queued : stored;
+    }
+
+    private <K> CompletableFuture<PlayTimeUser> load(
+            Map<K, CompletableFuture<PlayTimeUser>> inFlight,
+            K key,
+            Supplier<PlayTimeUser> cacheLookup,
+            Supplier<CompletableFuture<PlayTimeUser>> loader
+    ) {
+        CompletableFuture<PlayTimeUser> future = new CompletableFuture<>();
+        CompletableFuture<PlayTimeUser> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+
+        // a load for this key may have finished between the cache check and claiming the slot
+        PlayTimeUser cached = cacheLookup.get();
+        if (cached != null) {
+            hits.increment();
+            inFlight.remove(key, future);
+            future.complete(cached);
+            return future;
+        }
+
+        misses.increment();
+        try {
+            loader.get().whenComplete((loaded, e) -> {
+                PlayTimeUser user = loaded != null ? preferQueued(loaded) : null;
+                if (user != null) {
+                    cache.put(user);
+                }
+
+                inFlight.remove(key, future);
+                if (e != null) {
+                    future.completeExceptionally(e);
+                } else {
+                    future.complete(user);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
 }
\ No newline at end of file
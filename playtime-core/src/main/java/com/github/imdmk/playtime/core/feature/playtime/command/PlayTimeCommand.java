@@ -41,7 +41,7 @@ final class PlayTimeCommand {
         messageService.create()
                 .player(user.getUuid())
                 .notice(n -> n.playtimeMessages.playerPlayTimeSelf())
-                .placeholder("{PLAYER_PLAYTIME}", durationService.format(playTime.toDuration()))
+                .placeholder("{PLAYER_PLAYTIME}", durationService.format(playTime.millis()))
                 .send();
     }
 
@@ -54,7 +54,7 @@ final class PlayTimeCommand {
                 .viewer(sender)
                 .notice(n -> n.playtimeMessages.playerPlayTimeTarget())
                 .placeholder("{PLAYER_NAME}", target.getName())
-                .placeholder("{PLAYER_PLAYTIME}", durationService.format(playTime.toDuration()))
+                .placeholder("{PLAYER_PLAYTIME}", durationService.format(playTime.millis()))
                 .send();
     }
 }
@@ -10,4 +10,6 @@ public final class PlayTimeCommandPermissions {
 
     public static final String PLAYTIME_SET = "command.playtime.set";
     public static final String PLAYTIME_RESET = "command.playtime.reset";
+
+    public static final String PLAYTIME_DEBUG = "command.playtime.debug";
 }
@@ -1,12 +1,15 @@
 package com.github.imdmk.playtime.core.feature.playtime.command;
 
 import com.github.imdmk.playtime.api.PlayTime;
-import com.github.imdmk.playtime.core.feature.playtime.repository.PlayTimeUserRepository;
+import com.github.imdmk.playtime.core.feature.playtime.PlayTimeChangeBatch;
+import com.github.imdmk.playtime.core.feature.playtime.PlayTimeService;
+import com.github.imdmk.playtime.core.feature.playtime.PlayTimeUserService;
 import com.github.imdmk.playtime.core.injector.annotations.lite.LiteCommand;
 import com.github.imdmk.playtime.core.message.MessageService;
 import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
 import com.github.imdmk.playtime.core.platform.playtime.PlayTimeAdapter;
 import com.github.imdmk.playtime.core.platform.scheduler.TaskScheduler;
+import com.github.imdmk.playtime.core.time.DurationService;
 import dev.rollczi.litecommands.annotations.command.Command;
 import dev.rollczi.litecommands.annotations.context.Context;
 import dev.rollczi.litecommands.annotations.execute.Execute;
@@ -24,28 +27,34 @@ public final class PlayTimeResetAllCommand {
     private final PluginLogger logger;
     private final MessageService messageService;
     private final PlayTimeAdapter adapter;
-    private final PlayTimeUserRepository repository;
+    private final PlayTimeUserService userService;
     private final TaskScheduler scheduler;
+    private final DurationService durationService;
+    private final PlayTimeService playTimeService;
 
     public PlayTimeResetAllCommand(
             Server server,
             PluginLogger logger,
             MessageService messageService,
             PlayTimeAdapter adapter,
-            PlayTimeUserRepository repository,
-            TaskScheduler scheduler
+            PlayTimeUserService userService,
+            TaskScheduler scheduler,
+            DurationService durationService,
+            PlayTimeService playTimeService
     ) {
         this.server = server;
         this.logger = logger;
         this.messageService = messageService;
         this.adapter = adapter;
-        this.repository = repository;
+        this.userService = userService;
         this.scheduler = scheduler;
+        this.durationService = durationService;
+        this.playTimeService = playTimeService;
     }
 
     @Execute
     void resetAll(@Context CommandSender sender) {
-        repository.resetAllPlayTimes()
+        userService.resetAllPlayTimes()
                 .thenAccept(v -> {
                     scheduler.runSync(this::resetOnlinePlayersPlayTime);
                     messageService.send(sender, n -> n.playtimeMessages.playersPlayTimeReset());
@@ -58,8 +67,14 @@ public final class PlayTimeResetAllCommand {
     }
 
     private void resetOnlinePlayersPlayTime() {
+        PlayTimeChangeBatch batch = new PlayTimeChangeBatch(server.getOnlinePlayers().size());
         for (Player player : server.getOnlinePlayers()) {
+            PlayTime oldPlayTime = adapter.read(player);
             adapter.write(player, PlayTime.ZERO);
+            batch.add(player.getUniqueId(), oldPlayTime.millis(), 0L);
         }
+
+        durationService.invalidateAll();
+        playTimeService.publish(batch);
     }
 }
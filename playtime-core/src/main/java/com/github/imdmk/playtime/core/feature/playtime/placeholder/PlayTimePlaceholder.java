@@ -1,6 +1,7 @@
 package com.github.imdmk.playtime.core.feature.playtime.placeholder;
 
-import com.github.imdmk.playtime.api.PlayTime;
+import com.github.imdmk.playtime.core.feature.playtime.top.PlayTimeTopConfig;
+import com.github.imdmk.playtime.core.feature.playtime.top.PlayTimeTopService;
 import com.github.imdmk.playtime.core.injector.annotations.placeholder.Placeholder;
 import com.github.imdmk.playtime.core.platform.placeholder.PluginPlaceholder;
 import com.github.imdmk.playtime.core.platform.playtime.PlayTimeAdapter;
@@ -8,21 +9,30 @@ import com.github.imdmk.playtime.core.time.DurationService;
 import org.bukkit.entity.Player;
 import org.panda_lang.utilities.inject.annotations.Inject;
 
+import java.util.OptionalInt;
+
 @Placeholder
 final class PlayTimePlaceholder implements PluginPlaceholder {
 
     private static final String IDENTIFIER = "playtime";
+    private static final String RANK_PARAM = "rank";
 
     private final DurationService durationService;
     private final PlayTimeAdapter playTimeAdapter;
+    private final PlayTimeTopService topService;
+    private final PlayTimeTopConfig topConfig;
 
     @Inject
     PlayTimePlaceholder(
             DurationService durationService,
-            PlayTimeAdapter playTimeAdapter
+            PlayTimeAdapter playTimeAdapter,
+            PlayTimeTopService topService,
+            PlayTimeTopConfig topConfig
     ) {
         this.durationService = durationService;
         this.playTimeAdapter = playTimeAdapter;
+        this.topService = topService;
+        this.topConfig = topConfig;
     }
 
     @Override
@@ -32,7 +42,11 @@ final class PlayTimePlaceholder implements PluginPlaceholder {
 
     @Override
     public String request(Player player, String params) {
-        PlayTime playTime = playTimeAdapter.read(player);
-        return durationService.format(playTime.toDuration());
+        if (RANK_PARAM.equalsIgnoreCase(params)) {
+            OptionalInt rank = topService.getRank(player.getUniqueId());
+            return rank.isPresent() ? String.valueOf(rank.getAsInt()) : topConfig.topUsersUnrankedPlaceholder;
+        }
+
+        return durationService.format(player.getUniqueId(), () -> playTimeAdapter.read(player).millis());
     }
 }
@@ -2,6 +2,7 @@ package com.github.imdmk.playtime.core.feature.playtime.repository;
 
 import com.github.imdmk.playtime.core.feature.playtime.PlayTimeUser;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -10,6 +11,7 @@ public interface PlayTimeUserRepository {
 
     CompletableFuture<PlayTimeUser> findByUuid(UUID uuid);
     CompletableFuture<PlayTimeUser> findByName(String name);
+    CompletableFuture<List<PlayTimeUser>> findByUuids(Collection<UUID> uuids);
 
     CompletableFuture<List<PlayTimeUser>> findTopByPlayTime(int limit);
     CompletableFuture<List<PlayTimeUser>> findAll();
@@ -18,4 +20,5 @@ public interface PlayTimeUserRepository {
 
     CompletableFuture<Boolean> deleteByUuid(UUID uuid);
     CompletableFuture<PlayTimeUser> save(PlayTimeUser user);
+    CompletableFuture<Void> saveAll(Collection<PlayTimeUser> users);
 }
\ No newline at end of file
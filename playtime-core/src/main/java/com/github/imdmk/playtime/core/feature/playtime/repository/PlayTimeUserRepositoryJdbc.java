@@ -0,0 +1,269 @@
+package com.github.imdmk.playtime.core.feature.playtime.repository;
+
+import com.github.imdmk.playtime.api.PlayTime;
+import com.github.imdmk.playtime.core.database.DatabaseConfig;
+import com.github.imdmk.playtime.core.database.DatabaseManager;
+import com.github.imdmk.playtime.core.database.repository.RepositoryInitializationException;
+import com.github.imdmk.playtime.core.database.repository.RepositoryMode;
+import com.github.imdmk.playtime.core.database.repository.jdbc.JdbcRepository;
+import com.github.imdmk.playtime.core.database.repository.jdbc.SqlDialect;
+import com.github.imdmk.playtime.core.feature.playtime.PlayTimeUser;
+import com.github.imdmk.playtime.core.injector.annotations.Repository;
+import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
+import org.panda_lang.utilities.inject.annotations.Inject;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Repository
+final class PlayTimeUserRepositoryJdbc
+        extends JdbcRepository
+        implements PlayTimeUserRepository {
+
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+    private static final int FIND_ALL_FETCH_SIZE = 1000;
+    private static final Duration FIND_ALL_TIMEOUT = Duration.ofMinutes(1);
+
+    private final DatabaseConfig config;
+
+    private final String selectByUuid;
+    private final String selectByName;
+    private final String selectByUuidsChunk;
+    private final String selectTop;
+    private final String selectAll;
+    private volatile String upsert;
+    private final String resetAll;
+    private final String deleteByUuid;
+
+    @Inject
+    PlayTimeUserRepositoryJdbc(
+            PluginLogger logger,
+            DatabaseManager databaseManager,
+            DatabaseConfig config
+    ) {
+        super(logger, databaseManager, SqlDialect.of(config.databaseMode));
+        this.config = config;
+
+        String table = dialect.quote(PlayTimeUserEntityMeta.TABLE);
+        String uuid = dialect.quote(PlayTimeUserEntityMeta.Col.UUID);
+        String name = dialect.quote(PlayTimeUserEntityMeta.Col.NAME);
+        String playtimeMillis = dialect.quote(PlayTimeUserEntityMeta.Col.PLAYTIME_MILLIS);
+        String columns = uuid + ", " + name + ", " + playtimeMillis;
+
+        this.selectAll = "SELECT " + columns + " FROM " + table;
+        this.selectByUuid = selectAll + " WHERE " + uuid + " = ?";
+        this.selectByName = selectAll + " WHERE " + name + " = ?";
+        this.selectByUuidsChunk = selectByUuids(IN_CLAUSE_CHUNK_SIZE);
+        this.selectTop = dialect.selectTop(columns, PlayTimeUserEntityMeta.TABLE, playtimeMillis + " DESC");
+        this.upsert = upsert();
+        this.resetAll = "UPDATE " + table + " SET " + playtimeMillis + " = 0";
+        this.deleteByUuid = "DELETE FROM " + table + " WHERE " + uuid + " = ?";
+    }
+
+    @Override
+    public void start() throws RepositoryInitializationException {
+        super.start();
+        this.upsert = upsert();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return config.databaseRepositoryMode == RepositoryMode.JDBC;
+    }
+
+    @Override
+    protected Class<?> entityClass() {
+        return PlayTimeUserEntity.class;
+    }
+
+    @Override
+    protected String tableName() {
+        return PlayTimeUserEntityMeta.TABLE;
+    }
+
+    @Override
+    public CompletableFuture<PlayTimeUser> findByUuid(UUID uuid) {
+        return query(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(selectByUuid)) {
+                statement.setString(1, uuid.toString());
+                return first(statement);
+            }
+        }, "Failed to find user with uuid %s", uuid);
+    }
+
+    @Override
+    public CompletableFuture<PlayTimeUser> findByName(String name) {
+        return query(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(selectByName)) {
+                statement.setString(1, name);
+                return first(statement);
+            }
+        }, "Failed to find user with name %s", name);
+    }
+
+    @Override
+    public CompletableFuture<List<PlayTimeUser>> findByUuids(Collection<UUID> uuids) {
+        if (uuids.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        List<UUID> ids = List.copyOf(uuids);
+        return query(connection -> {
+            List<PlayTimeUser> users = new ArrayList<>(ids.size());
+            for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+                List<UUID> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+                String sql = chunk.size() == IN_CLAUSE_CHUNK_SIZE ? selectByUuidsChunk : selectByUuids(chunk.size());
+
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setString(i + 1, chunk.get(i).toString());
+                    }
+                    readAll(statement, users);
+                }
+            }
+
+            return users;
+        }, "Failed to find %d users by uuid", ids.size());
+    }
+
+    @Override
+    public CompletableFuture<List<PlayTimeUser>> findTopByPlayTime(int limit) {
+        if (limit <= 0) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        return query(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(selectTop)) {
+                statement.setInt(1, limit);
+                return readAll(statement, new ArrayList<>(limit));
+            }
+        }, "Failed to query top playtime users (limit=%d)", limit);
+    }
+
+    @Override
+    public CompletableFuture<List<PlayTimeUser>> findAll() {
+        return query(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(selectAll)) {
+                statement.setFetchSize(FIND_ALL_FETCH_SIZE);
+                return readAll(statement, new ArrayList<>());
+            }
+        }, FIND_ALL_TIMEOUT, "Failed to query all users");
+    }
+
+    @Override
+    public CompletableFuture<Void> resetAllPlayTimes() {
+        return update(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(resetAll)) {
+                statement.executeUpdate();
+                return null;
+            }
+        }, "Failed to reset all playtimes");
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteByUuid(UUID uuid) {
+        return update(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(deleteByUuid)) {
+                statement.setString(1, uuid.toString());
+                return statement.executeUpdate() > 0;
+            }
+        }, "Failed to delete user with uuid %s", uuid);
+    }
+
+    @Override
+    public CompletableFuture<PlayTimeUser> save(PlayTimeUser user) {
+        UUID uuid = user.getUuid();
+        String name = user.getName();
+        long millis = user.getPlayTime().millis();
+
+        return update(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(upsert)) {
+                bindUpsert(statement, uuid, name, millis);
+                statement.executeUpdate();
+                return user;
+            }
+        }, "Failed to save user with uuid %s", uuid);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveAll(Collection<PlayTimeUser> users) {
+        if (users.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // copy on the calling thread, so the batch stores a consistent snapshot
+        int size = users.size();
+        UUID[] uuids = new UUID[size];
+        String[] names = new String[size];
+        long[] millis = new long[size];
+
+        int index = 0;
+        for (PlayTimeUser user : users) {
+            uuids[index] = user.getUuid();
+            names[index] = user.getName();
+            millis[index] = user.getPlayTime().millis();
+            index++;
+        }
+
+        return update(connection -> inTransaction(connection, transaction -> {
+            try (PreparedStatement statement = transaction.prepareStatement(upsert)) {
+                for (int i = 0; i < size; i++) {
+                    bindUpsert(statement, uuids[i], names[i], millis[i]);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                return null;
+            }
+        }), "Failed to save batch of %d users", size);
+    }
+
+    // depends on the server version for MySQL, built again once start() knows it
+    private String upsert() {
+        return dialect.upsert(
+                PlayTimeUserEntityMeta.TABLE,
+                PlayTimeUserEntityMeta.Col.UUID,
+                List.of(PlayTimeUserEntityMeta.Col.NAME, PlayTimeUserEntityMeta.Col.PLAYTIME_MILLIS)
+        );
+    }
+
+    private String selectByUuids(int count) {
+        return selectAll + " WHERE " + dialect.quote(PlayTimeUserEntityMeta.Col.UUID) + " IN (" + SqlDialect.placeholders(count) + ")";
+    }
+
+    private static void bindUpsert(PreparedStatement statement, UUID uuid, String name, long millis) throws SQLException {
+        statement.setString(1, uuid.toString());
+        statement.setString(2, name);
+        statement.setLong(3, millis);
+    }
+
+    private static PlayTimeUser first(PreparedStatement statement) throws SQLException {
+        try (ResultSet result = statement.executeQuery()) {
+            return result.next() ? read(result) : null;
+        }
+    }
+
+    private static List<PlayTimeUser> readAll(PreparedStatement statement, List<PlayTimeUser> users) throws SQLException {
+        try (ResultSet result = statement.executeQuery()) {
+            while (result.next()) {
+                users.add(read(result));
+            }
+        }
+        return users;
+    }
+
+    // columns are selected in a fixed order, read by index to skip the name lookup
+    private static PlayTimeUser read(ResultSet result) throws SQLException {
+        return new PlayTimeUser(
+                UUID.fromString(result.getString(1)),
+                result.getString(2),
+                PlayTime.ofMillis(result.getLong(3))
+        );
+    }
+}
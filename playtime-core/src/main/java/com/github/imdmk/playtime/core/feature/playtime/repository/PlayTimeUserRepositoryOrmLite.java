@@ -1,14 +1,18 @@
 package com.github.imdmk.playtime.core.feature.playtime.repository;
 
+import com.github.imdmk.playtime.core.database.DatabaseConfig;
 import com.github.imdmk.playtime.core.database.DatabaseManager;
+import com.github.imdmk.playtime.core.database.repository.RepositoryMode;
 import com.github.imdmk.playtime.core.database.repository.ormlite.OrmLiteRepository;
 import com.github.imdmk.playtime.core.feature.playtime.PlayTimeUser;
 import com.github.imdmk.playtime.core.injector.annotations.Repository;
 import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
-import com.github.imdmk.playtime.core.platform.scheduler.TaskScheduler;
 import org.panda_lang.utilities.inject.annotations.Inject;
 
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -19,14 +23,24 @@ final class PlayTimeUserRepositoryOrmLite
         implements PlayTimeUserRepository {
 
     private static final PlayTimeUserEntityMapper MAPPER = new PlayTimeUserEntityMapper();
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+    private static final Duration FIND_ALL_TIMEOUT = Duration.ofMinutes(1);
+
+    private final DatabaseConfig config;
 
     @Inject
     PlayTimeUserRepositoryOrmLite(
             PluginLogger logger,
-            TaskScheduler taskScheduler,
-            DatabaseManager databaseManager
+            DatabaseManager databaseManager,
+            DatabaseConfig config
     ) {
-        super(logger, taskScheduler, databaseManager);
+        super(logger, databaseManager);
+        this.config = config;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return config.databaseRepositoryMode == RepositoryMode.ORMLITE;
     }
 
     @Override
@@ -72,6 +86,34 @@ final class PlayTimeUserRepositoryOrmLite
         });
     }
 
+    @Override
+    public CompletableFuture<List<PlayTimeUser>> findByUuids(Collection<UUID> uuids) {
+        if (uuids.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        List<UUID> ids = List.copyOf(uuids);
+        return execute(() -> {
+            try {
+                List<PlayTimeUser> users = new ArrayList<>(ids.size());
+                for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+                    List<UUID> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+                    for (PlayTimeUserEntity entity : dao.queryBuilder()
+                            .where()
+                            .in(PlayTimeUserEntityMeta.Col.UUID, chunk)
+                            .query()) {
+                        users.add(MAPPER.toDomain(entity));
+                    }
+                }
+
+                return users;
+            } catch (SQLException e) {
+                logger.error(e, "Failed to find %d users by uuid", ids.size());
+                throw new IllegalStateException("Database failure", e);
+            }
+        });
+    }
+
     @Override
     public CompletableFuture<List<PlayTimeUser>> findTopByPlayTime(int limit) {
         if (limit <= 0) {
@@ -106,12 +148,12 @@ final class PlayTimeUserRepositoryOrmLite
                 logger.error(e, "Failed to query all users");
                 throw new IllegalStateException("Database failure", e);
             }
-        });
+        }, FIND_ALL_TIMEOUT);
     }
 
     @Override
     public CompletableFuture<Void> resetAllPlayTimes() {
-        return execute(() -> {
+        return executeWrite(() -> {
             try {
                 dao.updateBuilder()
                         .updateColumnValue(PlayTimeUserEntityMeta.Col.PLAYTIME_MILLIS, 0L)
@@ -126,7 +168,7 @@ final class PlayTimeUserRepositoryOrmLite
 
     @Override
     public CompletableFuture<Boolean> deleteByUuid(UUID uuid) {
-        return execute(() -> {
+        return executeWrite(() -> {
             try {
                 int rows = dao.deleteById(uuid);
                 return rows > 0;
@@ -139,7 +181,7 @@ final class PlayTimeUserRepositoryOrmLite
 
     @Override
     public CompletableFuture<PlayTimeUser> save(PlayTimeUser user) {
-        return execute(() -> {
+        return executeWrite(() -> {
             try {
                 dao.createOrUpdate(MAPPER.toEntity(user));
                 return user;
@@ -149,4 +191,31 @@ final class PlayTimeUserRepositoryOrmLite
             }
         });
     }
+
+    @Override
+    public CompletableFuture<Void> saveAll(Collection<PlayTimeUser> users) {
+        if (users.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // map on the calling thread, so the batch stores a consistent snapshot
+        List<PlayTimeUserEntity> entities = users.stream()
+                .map(MAPPER::toEntity)
+                .toList();
+
+        return executeWrite(() -> {
+            try {
+                dao.callBatchTasks(() -> {
+                    for (PlayTimeUserEntity entity : entities) {
+                        dao.createOrUpdate(entity);
+                    }
+                    return null;
+                });
+                return null;
+            } catch (Exception e) {
+                logger.error(e, "Failed to save batch of %d users", entities.size());
+                throw new IllegalStateException("Database failure", e);
+            }
+        });
+    }
 }
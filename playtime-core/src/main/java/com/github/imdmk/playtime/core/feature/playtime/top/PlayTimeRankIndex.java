@@ -0,0 +1,180 @@
+package com.github.imdmk.playtime.core.feature.playtime.top;
+
+import com.github.imdmk.playtime.api.PlayTime;
+import com.github.imdmk.playtime.core.feature.playtime.PlayTimeUser;
+import com.github.imdmk.playtime.core.feature.playtime.repository.PlayTimeUserRepository;
+import com.github.imdmk.playtime.core.injector.ComponentPriority;
+import com.github.imdmk.playtime.core.injector.annotations.Service;
+import com.github.imdmk.playtime.core.injector.subscriber.Subscribe;
+import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeInitializeEvent;
+import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeShutdownEvent;
+import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
+import org.panda_lang.utilities.inject.annotations.Inject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service(priority = ComponentPriority.LOW, order = 2)
+public final class PlayTimeRankIndex {
+
+    private final PluginLogger logger;
+    private final PlayTimeTopConfig config;
+    private final PlayTimeUserRepository repository;
+
+    private final RankTree tree = new RankTree();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile boolean ready;
+
+    @Inject
+    PlayTimeRankIndex(
+            PluginLogger logger,
+            PlayTimeTopConfig config,
+            PlayTimeUserRepository repository
+    ) {
+        this.logger = logger;
+        this.config = config;
+        this.repository = repository;
+    }
+
+    public void update(PlayTimeUser user) {
+        update(user.getUuid(), user.getName(), user.getPlayTime());
+    }
+
+    public void update(UUID uuid, String name, PlayTime playTime) {
+        if (!config.topUsersIndexEnabled) {
+            return;
+        }
+
+        boolean visible;
+
+        lock.writeLock().lock();
+        try {
+            int before = tree.rank(uuid);
+            visible = tree.put(uuid, name, playTime.millis())
+                    && (isShown(before) || isShown(tree.rank(uuid)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (visible) {
+            version.incrementAndGet();
+        }
+    }
+
+    public void remove(UUID uuid) {
+        boolean visible;
+
+        lock.writeLock().lock();
+        try {
+            int rank = tree.rank(uuid);
+            visible = tree.remove(uuid) && isShown(rank);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (visible) {
+            version.incrementAndGet();
+        }
+    }
+
+    public void resetAll() {
+        lock.writeLock().lock();
+        try {
+            tree.resetAll();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        version.incrementAndGet();
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    long version() {
+        return version.get();
+    }
+
+    OptionalInt rank(UUID uuid) {
+        int rank;
+
+        lock.readLock().lock();
+        try {
+            rank = tree.rank(uuid);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return rank > 0 ? OptionalInt.of(rank) : OptionalInt.empty();
+    }
+
+    List<PlayTimeUser> top(int limit) {
+        List<RankTree.Entry> entries;
+
+        lock.readLock().lock();
+        try {
+            entries = tree.top(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<PlayTimeUser> users = new ArrayList<>(entries.size());
+        for (RankTree.Entry entry : entries) {
+            users.add(new PlayTimeUser(entry.uuid(), entry.name(), PlayTime.ofMillis(entry.millis())));
+        }
+        return users;
+    }
+
+    // the version only moves when the cached top slice could look different, everything below it is never shown
+    private boolean isShown(int rank) {
+        return rank > 0 && rank <= config.topUsersQueryLimit;
+    }
+
+    @Subscribe(event = PlayTimeInitializeEvent.class)
+    private void seed() {
+        if (!config.topUsersIndexEnabled) {
+            return;
+        }
+
+        repository.findAll()
+                .thenAccept(users -> {
+                    lock.writeLock().lock();
+                    try {
+                        // updates that arrived while loading are newer than the stored values
+                        for (PlayTimeUser user : users) {
+                            tree.putIfAbsent(user.getUuid(), user.getName(), user.getPlayTime().millis());
+                        }
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+
+                    version.incrementAndGet();
+                    ready = true;
+                    logger.info("Leaderboard index seeded with %d users", users.size());
+                })
+                .exceptionally(e -> {
+                    logger.error(e, "Failed to seed leaderboard index, falling back to database queries");
+                    return null;
+                });
+    }
+
+    @Subscribe(event = PlayTimeShutdownEvent.class)
+    private void shutdown() {
+        ready = false;
+
+        lock.writeLock().lock();
+        try {
+            tree.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.imdmk.playtime.core.feature.playtime.top;
+
+import com.github.imdmk.playtime.core.injector.annotations.Task;
+import com.github.imdmk.playtime.core.platform.playtime.PlayTimeAdapter;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.panda_lang.utilities.inject.annotations.Inject;
+
+@Task(delayMillis = 30_000L, periodMillis = 30_000L, async = false)
+final class PlayTimeRankIndexTask implements Runnable {
+
+    private final Server server;
+    private final PlayTimeAdapter adapter;
+    private final PlayTimeRankIndex index;
+
+    @Inject
+    PlayTimeRankIndexTask(
+            Server server,
+            PlayTimeAdapter adapter,
+            PlayTimeRankIndex index
+    ) {
+        this.server = server;
+        this.adapter = adapter;
+        this.index = index;
+    }
+
+    @Override
+    public void run() {
+        for (Player player : server.getOnlinePlayers()) {
+            index.update(player.getUniqueId(), player.getName(), adapter.read(player));
+        }
+    }
+}
@@ -6,10 +6,14 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 
-record PlayTimeTop(
+public record PlayTimeTop(
         List<PlayTimeUser> users,
-        Instant loadedAt
+        Instant loadedAt,
+        long indexVersion
 ) {
+
+    static final long NO_INDEX_VERSION = -1L;
+
     boolean isExpired(Duration ttl, Instant now) {
         return ttl.isPositive() && loadedAt.plus(ttl).isBefore(now);
     }
@@ -1,33 +1,100 @@
 package com.github.imdmk.playtime.core.feature.playtime.top;
 
 import com.github.imdmk.playtime.core.feature.playtime.PlayTimeUser;
+import com.github.imdmk.playtime.core.feature.playtime.top.gui.SkullProfileCache;
 import com.github.imdmk.playtime.core.injector.ComponentPriority;
 import com.github.imdmk.playtime.core.injector.annotations.Service;
 import org.jetbrains.annotations.Nullable;
+import org.panda_lang.utilities.inject.annotations.Inject;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 @Service(priority = ComponentPriority.LOW)
 final class PlayTimeTopCache {
 
+    private final SkullProfileCache skullProfiles;
+
     private final AtomicReference<PlayTimeTop> snapshot = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<PlayTimeTop>> refreshing = new AtomicReference<>();
+
+    @Inject
+    PlayTimeTopCache(SkullProfileCache skullProfiles) {
+        this.skullProfiles = skullProfiles;
+    }
 
     @Nullable
     PlayTimeTop get() {
         return snapshot.get();
     }
 
-    void update(List<PlayTimeUser> users) {
-        snapshot.set(new PlayTimeTop(
+    // serves an expired snapshot while it is refreshed in the background, only an empty cache waits
+    CompletableFuture<PlayTimeTop> getOrRefresh(
+            Duration ttl,
+            Supplier<CompletableFuture<List<PlayTimeUser>>> loader
+    ) {
+        PlayTimeTop current = snapshot.get();
+        if (current == null) {
+            return refresh(loader);
+        }
+
+        if (current.isExpired(ttl, Instant.now())) {
+            refresh(loader);
+        }
+
+        return CompletableFuture.completedFuture(current);
+    }
+
+    CompletableFuture<PlayTimeTop> refresh(Supplier<CompletableFuture<List<PlayTimeUser>>> loader) {
+        CompletableFuture<PlayTimeTop> future = new CompletableFuture<>();
+        while (!refreshing.compareAndSet(null, future)) {
+            CompletableFuture<PlayTimeTop> running = refreshing.get();
+            if (running != null) {
+                return running;
+            }
+        }
+
+        try {
+            loader.get().whenComplete((users, e) -> {
+                PlayTimeTop top = e == null ? update(users) : null;
+                refreshing.set(null);
+
+                if (e != null) {
+                    future.completeExceptionally(e);
+                } else {
+                    future.complete(top);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.set(null);
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    PlayTimeTop update(List<PlayTimeUser> users) {
+        return update(users, PlayTimeTop.NO_INDEX_VERSION);
+    }
+
+    PlayTimeTop update(List<PlayTimeUser> users, long indexVersion) {
+        PlayTimeTop top = new PlayTimeTop(
                 List.copyOf(users),
-                Instant.now()
-        ));
+                Instant.now(),
+                indexVersion
+        );
+        snapshot.set(top);
+
+        // heads are resolved before anyone opens the leaderboard
+        skullProfiles.prefetch(top.users());
+        return top;
     }
 
     void invalidate() {
         snapshot.set(null);
     }
 }
-
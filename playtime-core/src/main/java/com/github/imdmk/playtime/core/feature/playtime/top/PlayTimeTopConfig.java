@@ -39,7 +39,8 @@ public final class PlayTimeTopConfig extends ConfigSection {
             "#",
             "# How long the cached leaderboard snapshot stays valid.",
             "#",
-            "# After this time expires, the next request will reload data from the database.",
+            "# After this time expires, the next request still gets the old snapshot",
+            "# while a single background reload from the database runs.",
             "#",
             "# Recommended:",
             "#  - 5–15 minutes",
@@ -59,6 +60,42 @@ public final class PlayTimeTopConfig extends ConfigSection {
     })
     public Duration topUsersQueryTimeout = Duration.ofSeconds(3);
 
+    @Comment({
+            "#",
+            "# How often the leaderboard snapshot is reloaded in the background,",
+            "# so players opening the leaderboard never wait for the database.",
+            "#",
+            "# Only used while the leaderboard index is disabled or still loading.",
+            "# Set to 0s to disable background reloads.",
+            "#",
+            "# Recommended:",
+            "#  - a bit less than topUsersCacheExpireAfter",
+            "#"
+    })
+    public Duration topUsersRefreshAheadInterval = Duration.ofMinutes(8);
+
+    @Comment({
+            "#",
+            "# Whether the leaderboard is served from an in-memory ranked index.",
+            "#",
+            "# The index is loaded from the database once on startup and then kept up to date",
+            "# on every playtime change, save and periodically for online players.",
+            "# While enabled, the leaderboard snapshot is rebuilt from memory and never queries the database.",
+            "#",
+            "# Uses roughly 150 bytes of memory per stored player.",
+            "# Disable it to always load the leaderboard with database queries.",
+            "#"
+    })
+    public boolean topUsersIndexEnabled = true;
+
+    @Comment({
+            "#",
+            "# Text returned by the %playtime_rank% placeholder when the player has no rank yet,",
+            "# or the leaderboard index is disabled or still loading.",
+            "#"
+    })
+    public String topUsersUnrankedPlaceholder = "-";
+
     @Override
     public OkaeriSerdesPack serdesPack() {
         return registry -> {};
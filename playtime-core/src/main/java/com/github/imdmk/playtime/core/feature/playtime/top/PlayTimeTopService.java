@@ -3,28 +3,43 @@ package com.github.imdmk.playtime.core.feature.playtime.top;
 import com.github.imdmk.playtime.core.feature.playtime.PlayTimeUser;
 import com.github.imdmk.playtime.core.feature.playtime.repository.PlayTimeUserRepository;
 import com.github.imdmk.playtime.core.injector.annotations.Service;
+import com.github.imdmk.playtime.core.injector.subscriber.Subscribe;
+import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeInitializeEvent;
+import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
+import com.github.imdmk.playtime.core.platform.scheduler.TaskScheduler;
 import org.panda_lang.utilities.inject.annotations.Inject;
 
-import java.time.Instant;
+import java.time.Duration;
 import java.util.List;
+import java.util.OptionalInt;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 @Service
 public final class PlayTimeTopService {
 
+    private final PluginLogger logger;
+    private final TaskScheduler scheduler;
     private final PlayTimeTopCache cache;
     private final PlayTimeTopConfig config;
+    private final PlayTimeRankIndex index;
     private final PlayTimeUserRepository repository;
 
     @Inject
     PlayTimeTopService(
+            PluginLogger logger,
+            TaskScheduler scheduler,
             PlayTimeTopCache cache,
             PlayTimeTopConfig config,
+            PlayTimeRankIndex index,
             PlayTimeUserRepository repository
     ) {
+        this.logger = logger;
+        this.scheduler = scheduler;
         this.cache = cache;
         this.config = config;
+        this.index = index;
         this.repository = repository;
     }
 
@@ -37,30 +52,70 @@ public final class PlayTimeTopService {
             return CompletableFuture.completedFuture(List.of());
         }
 
-        Instant now = Instant.now();
+        return getTopSnapshot().thenApply(top -> slice(top.users(), displayLimit));
+    }
 
-        PlayTimeTop cached = cache.get();
-        if (cached != null && !cached.isExpired(config.topUsersCacheExpireAfter, now)) {
-            return CompletableFuture.completedFuture(
-                    slice(cached.users(), displayLimit)
-            );
+    // the same instance is returned until the leaderboard changes, so callers can cache derived data against it
+    public CompletableFuture<PlayTimeTop> getTopSnapshot() {
+        if (index.isReady()) {
+            return CompletableFuture.completedFuture(indexSnapshot());
         }
 
+        return cache.getOrRefresh(config.topUsersCacheExpireAfter, this::loadTop);
+    }
+
+    public OptionalInt getRank(UUID uuid) {
+        if (!index.isReady()) {
+            return OptionalInt.empty();
+        }
+
+        return index.rank(uuid);
+    }
+
+    public void invalidateCache() {
+        cache.invalidate();
+    }
+
+    private CompletableFuture<List<PlayTimeUser>> loadTop() {
         return repository.findTopByPlayTime(config.topUsersQueryLimit)
                 .orTimeout(config.topUsersQueryTimeout.toMillis(), TimeUnit.MILLISECONDS)
-                .thenApply(users -> {
-                    cache.update(users);
-                    return slice(users, displayLimit);
+                .whenComplete((users, e) -> {
+                    if (e != null) {
+                        logger.warn(e, "Failed to refresh leaderboard snapshot");
+                    }
                 });
     }
 
-    public void invalidateCache() {
-        cache.invalidate();
+    private void refreshAhead() {
+        // the index already keeps the snapshot current
+        if (!index.isReady()) {
+            cache.refresh(this::loadTop);
+        }
+    }
+
+    @Subscribe(event = PlayTimeInitializeEvent.class)
+    private void initialize() {
+        Duration interval = config.topUsersRefreshAheadInterval;
+        if (interval.isZero() || interval.isNegative()) {
+            return;
+        }
+
+        scheduler.runAsync(this::refreshAhead);
+        scheduler.runTimerAsync(this::refreshAhead, interval, interval);
+    }
+
+    private PlayTimeTop indexSnapshot() {
+        long version = index.version();
+
+        PlayTimeTop cached = cache.get();
+        if (cached != null && cached.indexVersion() == version) {
+            return cached;
+        }
+
+        return cache.update(index.top(config.topUsersQueryLimit), version);
     }
 
     private static List<PlayTimeUser> slice(List<PlayTimeUser> users, int limit) {
         return users.size() <= limit ? users : users.subList(0, limit);
     }
 }
-
-
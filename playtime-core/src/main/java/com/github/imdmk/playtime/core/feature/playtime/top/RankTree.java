@@ -0,0 +1,246 @@
+package com.github.imdmk.playtime.core.feature.playtime.top;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Order-statistic treap ordered by playtime descending, then uuid ascending.
+ * Not thread-safe, callers guard access.
+ */
+final class RankTree {
+
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+
+    private Node root;
+
+    // whether the entry was added, moved or renamed
+    boolean put(UUID uuid, String name, long millis) {
+        Node existing = nodes.get(uuid);
+        if (existing != null) {
+            if (existing.millis == millis) {
+                boolean renamed = !Objects.equals(existing.name, name);
+                existing.name = name;
+                return renamed;
+            }
+
+            root = delete(root, existing);
+        }
+
+        Node node = new Node(uuid, name, millis, random.nextInt());
+        nodes.put(uuid, node);
+        root = insert(root, node);
+        return true;
+    }
+
+    boolean putIfAbsent(UUID uuid, String name, long millis) {
+        if (nodes.containsKey(uuid)) {
+            return false;
+        }
+
+        put(uuid, name, millis);
+        return true;
+    }
+
+    boolean remove(UUID uuid) {
+        Node node = nodes.remove(uuid);
+        if (node == null) {
+            return false;
+        }
+
+        root = delete(root, node);
+        return true;
+    }
+
+    @Nullable
+    Entry get(UUID uuid) {
+        Node node = nodes.get(uuid);
+        return node != null ? node.entry() : null;
+    }
+
+    // 1-based position, or 0 when the uuid is not ranked
+    int rank(UUID uuid) {
+        Node node = nodes.get(uuid);
+        if (node == null) {
+            return 0;
+        }
+
+        int rank = 1;
+        Node current = root;
+        while (current != null) {
+            if (current == node) {
+                return rank + size(current.left);
+            }
+
+            if (compare(node, current) < 0) {
+                current = current.left;
+            } else {
+                rank += size(current.left) + 1;
+                current = current.right;
+            }
+        }
+
+        return 0;
+    }
+
+    List<Entry> top(int limit) {
+        List<Entry> entries = new ArrayList<>(Math.min(limit, nodes.size()));
+        Deque<Node> stack = new ArrayDeque<>();
+
+        Node current = root;
+        while ((current != null || !stack.isEmpty()) && entries.size() < limit) {
+            while (current != null) {
+                stack.push(current);
+                current = current.left;
+            }
+
+            current = stack.pop();
+            entries.add(current.entry());
+            current = current.right;
+        }
+
+        return entries;
+    }
+
+    void resetAll() {
+        List<Node> all = new ArrayList<>(nodes.values());
+        clear();
+        for (Node node : all) {
+            put(node.uuid, node.name, 0L);
+        }
+    }
+
+    int size() {
+        return nodes.size();
+    }
+
+    void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    private Node insert(@Nullable Node tree, Node node) {
+        if (tree == null) {
+            return node;
+        }
+
+        if (node.priority > tree.priority) {
+            split(tree, node);
+            node.update();
+            return node;
+        }
+
+        if (compare(node, tree) < 0) {
+            tree.left = insert(tree.left, node);
+        } else {
+            tree.right = insert(tree.right, node);
+        }
+
+        tree.update();
+        return tree;
+    }
+
+    private Node delete(Node tree, Node node) {
+        if (tree == node) {
+            return merge(tree.left, tree.right);
+        }
+
+        if (compare(node, tree) < 0) {
+            tree.left = delete(tree.left, node);
+        } else {
+            tree.right = delete(tree.right, node);
+        }
+
+        tree.update();
+        return tree;
+    }
+
+    // splits tree around pivot, storing the lower part in pivot.left and the upper part in pivot.right
+    private static void split(@Nullable Node tree, Node pivot) {
+        if (tree == null) {
+            pivot.left = null;
+            pivot.right = null;
+            return;
+        }
+
+        if (compare(tree, pivot) < 0) {
+            split(tree.right, pivot);
+            tree.right = pivot.left;
+            tree.update();
+            pivot.left = tree;
+        } else {
+            split(tree.left, pivot);
+            tree.left = pivot.right;
+            tree.update();
+            pivot.right = tree;
+        }
+    }
+
+    @Nullable
+    private static Node merge(@Nullable Node lower, @Nullable Node upper) {
+        if (lower == null) {
+            return upper;
+        }
+        if (upper == null) {
+            return lower;
+        }
+
+        if (lower.priority > upper.priority) {
+            lower.right = merge(lower.right, upper);
+            lower.update();
+            return lower;
+        }
+
+        upper.left = merge(lower, upper.left);
+        upper.update();
+        return upper;
+    }
+
+    private static int compare(Node a, Node b) {
+        int byMillis = Long.compare(b.millis, a.millis);
+        return byMillis != 0 ? byMillis : a.uuid.compareTo(b.uuid);
+    }
+
+    private static int size(@Nullable Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    record Entry(UUID uuid, String name, long millis) {
+    }
+
+    private static final class Node {
+
+        private final UUID uuid;
+        private final long millis;
+        private final int priority;
+        private String name;
+
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(UUID uuid, String name, long millis, int priority) {
+            this.uuid = uuid;
+            this.name = name;
+            this.millis = millis;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = 1 + size(left) + size(right);
+        }
+
+        private Entry entry() {
+            return new Entry(uuid, name, millis);
+        }
+    }
+}
@@ -40,8 +40,8 @@ final class PlayTimeTopCommand {
 
     @Execute
     void openGui(@Context Player viewer) {
-        topService.getTop()
-                .thenAccept(topUsers -> guiOpener.open(PlayTimeTopGui.class, viewer, topUsers))
+        topService.getTopSnapshot()
+                .thenCompose(top -> guiOpener.open(PlayTimeTopGui.class, viewer, top))
                 .exceptionally(e -> {
                     messageService.send(viewer, notice -> notice.actionExecutionError);
                     logger.error(e, "Failed to open top users");
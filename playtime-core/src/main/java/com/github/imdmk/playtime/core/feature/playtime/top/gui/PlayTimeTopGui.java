@@ -1,70 +1,88 @@
 package com.github.imdmk.playtime.core.feature.playtime.top.gui;
 
 import com.github.imdmk.playtime.core.feature.playtime.PlayTimeUser;
+import com.github.imdmk.playtime.core.feature.playtime.top.PlayTimeTop;
+import com.github.imdmk.playtime.core.feature.playtime.top.PlayTimeTopConfig;
 import com.github.imdmk.playtime.core.injector.annotations.gui.Gui;
-import com.github.imdmk.playtime.core.platform.adventure.AdventureFormatter;
-import com.github.imdmk.playtime.core.platform.adventure.AdventurePlaceholders;
+import com.github.imdmk.playtime.core.injector.subscriber.Subscribe;
+import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeReloadEvent;
 import com.github.imdmk.playtime.core.platform.gui.GuiType;
 import com.github.imdmk.playtime.core.platform.gui.config.NavigationBarConfig;
 import com.github.imdmk.playtime.core.platform.gui.factory.GuiFactory;
 import com.github.imdmk.playtime.core.platform.gui.item.ItemGui;
+import com.github.imdmk.playtime.core.platform.gui.item.ItemGuiTemplate;
 import com.github.imdmk.playtime.core.platform.gui.item.ItemGuiTransformer;
 import com.github.imdmk.playtime.core.platform.gui.render.GuiRenderer;
 import com.github.imdmk.playtime.core.platform.gui.render.RenderContext;
 import com.github.imdmk.playtime.core.platform.gui.render.RenderOptions;
 import com.github.imdmk.playtime.core.platform.gui.render.TriumphGuiRenderer;
 import com.github.imdmk.playtime.core.platform.gui.view.AbstractGui;
-import com.github.imdmk.playtime.core.platform.gui.view.ParameterizedGui;
+import com.github.imdmk.playtime.core.platform.gui.view.StagedGui;
 import com.github.imdmk.playtime.core.platform.scheduler.TaskScheduler;
 import com.github.imdmk.playtime.core.time.DurationService;
-import dev.triumphteam.gui.builder.item.BaseItemBuilder;
-import dev.triumphteam.gui.builder.item.SkullBuilder;
 import dev.triumphteam.gui.guis.BaseGui;
 import dev.triumphteam.gui.guis.GuiItem;
-import org.bukkit.OfflinePlayer;
-import org.bukkit.Server;
+import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.SkullMeta;
+import org.bukkit.profile.PlayerProfile;
 import org.panda_lang.utilities.inject.annotations.Inject;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
 @Gui
 public final class PlayTimeTopGui
         extends AbstractGui
-        implements ParameterizedGui<List<PlayTimeUser>> {
+        implements StagedGui<PlayTimeTop, PlayTimeTopGui.RenderedEntries> {
 
     private static final String GUI_ID = "playtime-top";
 
     private static final GuiRenderer RENDERER = TriumphGuiRenderer.newRenderer();
     private static final RenderOptions RENDER_OPTIONS = RenderOptions.defaultHide();
 
-    private final Server server;
+    private static final String[] ENTRY_PLACEHOLDERS = {"{PLAYER_NAME}", "{PLAYER_POSITION}", "{PLAYER_PLAYTIME}"};
+    private static final Consumer<InventoryClickEvent> CANCEL_CLICK = event -> event.setCancelled(true);
+
+    private final SkullProfileCache skullProfiles;
     private final PlayTimeTopGuiConfig guiConfig;
+    private final PlayTimeTopConfig topConfig;
     private final DurationService durationService;
 
+    private volatile ItemGuiTemplate entryTemplate;
+    private volatile RenderedEntries renderedEntries;
+
     @Inject
     PlayTimeTopGui(
-            Server server,
+            SkullProfileCache skullProfiles,
             PlayTimeTopGuiConfig guiConfig,
+            PlayTimeTopConfig topConfig,
             NavigationBarConfig config,
             TaskScheduler taskScheduler,
             DurationService durationService
     ) {
         super(config, taskScheduler, RENDERER, RENDER_OPTIONS);
-        this.server = server;
+        this.skullProfiles = skullProfiles;
         this.guiConfig = guiConfig;
+        this.topConfig = topConfig;
         this.durationService = durationService;
     }
 
     @Override
-    public BaseGui createGui(Player viewer, List<PlayTimeUser> topUsers) {
+    public BaseGui createGui(Player viewer, PlayTimeTop top) {
         return GuiFactory.build(guiConfig, BaseGui::disableAllInteractions);
     }
 
     @Override
-    public void prepareItems(BaseGui gui, Player viewer, List<PlayTimeUser> topUsers) {
+    public RenderedEntries prepare(Player viewer, PlayTimeTop top) {
+        return renderEntries(top);
+    }
+
+    @Override
+    public void placeItems(BaseGui gui, Player viewer, RenderedEntries entries) {
         if (guiConfig.fillBorder) {
             GuiItem borderItem = ItemGuiTransformer.toGuiItem(guiConfig.borderItem);
             gui.getFiller().fillBorder(borderItem);
@@ -78,40 +96,92 @@ public final class PlayTimeTopGui
         }
 
         RenderContext context = RenderContext.defaultContext(viewer);
-        ItemGui item = guiConfig.playerEntryItem;
+        ItemGui item = entries.template().item();
 
-        for (int i = 0; i < topUsers.size(); i++) {
-            int position = i + 1;
+        for (ItemStack stack : entries.items()) {
+            renderer.addItem(gui, item, stack, context, renderOptions, CANCEL_CLICK);
+        }
+    }
 
-            PlayTimeUser user = topUsers.get(i);
-            OfflinePlayer player = server.getOfflinePlayer(user.getUuid());
+    // entries only depend on the snapshot, so every viewer of the same snapshot shares one render
+    private RenderedEntries renderEntries(PlayTimeTop top) {
+        ItemGuiTemplate template = entryTemplate();
 
-            AdventurePlaceholders placeholders = createPlaceholders(player, user, position);
-            Consumer<InventoryClickEvent> clickHandler = (event -> event.setCancelled(true));
+        RenderedEntries rendered = renderedEntries;
+        if (rendered != null && rendered.top() == top && rendered.template() == template) {
+            return rendered;
+        }
 
-            Consumer<BaseItemBuilder<?>> editor = (builder) -> {
-                if (builder instanceof SkullBuilder skullBuilder) {
-                    skullBuilder.owner(player);
+        List<PlayTimeUser> users = top.users();
+        int limit = Math.min(users.size(), Math.max(0, topConfig.topUsersGuiLimit));
+
+        List<ItemStack> items = new ArrayList<>(limit);
+        boolean resolved = true;
+        for (int i = 0; i < limit; i++) {
+            PlayTimeUser user = users.get(i);
+            Component[] values = createValues(user, i + 1);
+
+            ItemStack stack = ItemGuiTransformer.toItemStack(template.item(), builder -> {
+                builder.name(template.name(values));
+                builder.lore(template.lore(values));
+            });
+
+            if (stack.getItemMeta() instanceof SkullMeta meta) {
+                PlayerProfile profile = skullProfiles.getIfResolved(user.getUuid(), user.getName());
+                if (profile == null) {
+                    resolved = false;
+                    profile = skullProfiles.createProfile(user.getUuid(), user.getName());
                 }
 
-                builder.name(AdventureFormatter.format(item.name(), placeholders));
-                builder.lore(AdventureFormatter.format(item.lore(), placeholders));
-            };
+                meta.setOwnerProfile(profile);
+                stack.setItemMeta(meta);
+            }
 
-            renderer.addItem(gui, item, context, renderOptions, clickHandler, editor);
+            items.add(stack);
         }
+
+        rendered = new RenderedEntries(top, template, List.copyOf(items));
+
+        // a bare head would stay until the next snapshot, render again once the lookups finished
+        if (resolved) {
+            renderedEntries = rendered;
+        }
+        return rendered;
     }
 
-    private AdventurePlaceholders createPlaceholders(OfflinePlayer offlinePlayer, PlayTimeUser user, int position) {
-        return AdventurePlaceholders.builder()
-                .with("{PLAYER_NAME}", offlinePlayer.getName() == null ? "Unknown" : offlinePlayer.getName())
-                .with("{PLAYER_POSITION}", position)
-                .with("{PLAYER_PLAYTIME}", durationService.format(user.getPlayTime().toDuration()))
-                .build();
+    // same order as ENTRY_PLACEHOLDERS
+    private Component[] createValues(PlayTimeUser user, int position) {
+        return new Component[] {
+                Component.text(user.getName() == null ? "Unknown" : user.getName()),
+                Component.text(String.valueOf(position)),
+                Component.text(durationService.format(user.getPlayTime().millis()))
+        };
+    }
+
+    private ItemGuiTemplate entryTemplate() {
+        ItemGuiTemplate template = entryTemplate;
+        if (template == null) {
+            template = ItemGuiTemplate.compile(guiConfig.playerEntryItem, ENTRY_PLACEHOLDERS);
+            entryTemplate = template;
+        }
+        return template;
+    }
+
+    @Subscribe(event = PlayTimeReloadEvent.class)
+    private void invalidateTemplates() {
+        entryTemplate = null;
+        renderedEntries = null;
     }
 
     @Override
     public String getId() {
         return GUI_ID;
     }
+
+    record RenderedEntries(
+            PlayTimeTop top,
+            ItemGuiTemplate template,
+            List<ItemStack> items
+    ) {
+    }
 }
@@ -88,6 +88,25 @@ public final class PlayTimeTopGuiConfig extends ConfigSection
             .addFlags(ItemFlag.HIDE_ATTRIBUTES)
             .build();
 
+    @Comment({
+            "#",
+            "# Resolve player head textures for the leaderboard in the background.",
+            "#",
+            "# Profiles are fetched whenever the leaderboard snapshot changes, so opening the GUI",
+            "# never waits for a profile lookup. Disable on servers without access to Mojang services.",
+            "#"
+    })
+    public boolean skullPrefetchEnabled = true;
+
+    @Comment({
+            "#",
+            "# Maximum number of resolved player head profiles kept in memory.",
+            "#",
+            "# Should be at least the leaderboard query limit.",
+            "#"
+    })
+    public long skullCacheMaximumSize = 500;
+
     @Override
     public Component title() {
         return title;
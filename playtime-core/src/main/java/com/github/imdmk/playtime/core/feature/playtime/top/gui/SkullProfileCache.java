@@ -0,0 +1,126 @@
+package com.github.imdmk.playtime.core.feature.playtime.top.gui;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.imdmk.playtime.core.feature.playtime.PlayTimeUser;
+import com.github.imdmk.playtime.core.injector.ComponentPriority;
+import com.github.imdmk.playtime.core.injector.annotations.Service;
+import com.github.imdmk.playtime.core.injector.subscriber.Subscribe;
+import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeShutdownEvent;
+import org.bukkit.Server;
+import org.bukkit.profile.PlayerProfile;
+import org.jetbrains.annotations.Nullable;
+import org.panda_lang.utilities.inject.annotations.Inject;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service(priority = ComponentPriority.LOWEST)
+public final class SkullProfileCache {
+
+    private final Server server;
+    private final PlayTimeTopGuiConfig config;
+
+    private final Cache<UUID, PlayerProfile> profiles;
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder prefetched = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    @Inject
+    public SkullProfileCache(Server server, PlayTimeTopGuiConfig config) {
+        this.server = server;
+        this.config = config;
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, config.skullCacheMaximumSize))
+                .recordStats()
+                .build();
+    }
+
+    // never performs a lookup, null while the profile is resolved in the background
+    @Nullable
+    PlayerProfile getIfResolved(UUID uuid, String name) {
+        PlayerProfile profile = profiles.getIfPresent(uuid);
+        if (profile != null) {
+            return profile;
+        }
+
+        // nothing will ever resolve it, the bare profile is final
+        if (!config.skullPrefetchEnabled) {
+            return createProfile(uuid, name);
+        }
+
+        prefetch(uuid, name);
+        return null;
+    }
+
+    public void prefetch(Collection<PlayTimeUser> users) {
+        if (!config.skullPrefetchEnabled) {
+            return;
+        }
+
+        for (PlayTimeUser user : users) {
+            if (profiles.asMap().containsKey(user.getUuid())) {
+                continue;
+            }
+
+            prefetch(user.getUuid(), user.getName());
+        }
+    }
+
+    public SkullProfileStats stats() {
+        CacheStats stats = profiles.stats();
+        return new SkullProfileStats(
+                profiles.estimatedSize(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                prefetched.sum(),
+                failures.sum(),
+                inFlight.size()
+        );
+    }
+
+    private void prefetch(UUID uuid, String name) {
+        if (!config.skullPrefetchEnabled || !inFlight.add(uuid)) {
+            return;
+        }
+
+        try {
+            createProfile(uuid, name).update().whenComplete((profile, e) -> {
+                inFlight.remove(uuid);
+
+                if (e != null) {
+                    // keep the bare profile so the same head is not looked up on every update
+                    failures.increment();
+                    profiles.put(uuid, createProfile(uuid, name));
+                    return;
+                }
+
+                prefetched.increment();
+                profiles.put(uuid, profile);
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(uuid);
+            failures.increment();
+        }
+    }
+
+    PlayerProfile createProfile(UUID uuid, String name) {
+        try {
+            return server.createPlayerProfile(uuid, name);
+        } catch (IllegalArgumentException e) {
+            // stored name is not a valid profile name
+            return server.createPlayerProfile(uuid);
+        }
+    }
+
+    @Subscribe(event = PlayTimeShutdownEvent.class)
+    private void shutdown() {
+        profiles.invalidateAll();
+        inFlight.clear();
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.imdmk.playtime.core.feature.playtime.top.gui;
+
+public record SkullProfileStats(
+        long cached,
+        double hitRate,
+        long evictions,
+        long prefetched,
+        long failures,
+        int inFlight
+) {
+}
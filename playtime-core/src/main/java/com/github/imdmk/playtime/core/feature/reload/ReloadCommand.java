@@ -3,6 +3,8 @@ package com.github.imdmk.playtime.core.feature.reload;
 import com.github.imdmk.playtime.core.config.ConfigAccessException;
 import com.github.imdmk.playtime.core.config.ConfigService;
 import com.github.imdmk.playtime.core.injector.annotations.lite.LiteCommand;
+import com.github.imdmk.playtime.core.injector.subscriber.Publisher;
+import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeReloadEvent;
 import com.github.imdmk.playtime.core.message.MessageService;
 import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
 import com.github.imdmk.playtime.core.platform.scheduler.TaskScheduler;
@@ -22,18 +24,21 @@ final class ReloadCommand {
     private final ConfigService configService;
     private final TaskScheduler taskScheduler;
     private final MessageService messageService;
+    private final Publisher publisher;
 
     @Inject
     ReloadCommand(
             PluginLogger logger,
             ConfigService configService,
             TaskScheduler taskScheduler,
-            MessageService messageService
+            MessageService messageService,
+            Publisher publisher
     ) {
         this.logger = logger;
         this.configService = configService;
         this.taskScheduler = taskScheduler;
         this.messageService = messageService;
+        this.publisher = publisher;
     }
 
     @Execute
@@ -41,6 +46,7 @@ final class ReloadCommand {
         taskScheduler.runAsync(() -> {
             try {
                 configService.loadAll();
+                publisher.publish(new PlayTimeReloadEvent());
                 messageService.send(sender, n -> n.reloadMessages.configReloadedSuccess());
             } catch (ConfigAccessException e) {
                 logger.error(e, "Failed to reload plugin configuration files");
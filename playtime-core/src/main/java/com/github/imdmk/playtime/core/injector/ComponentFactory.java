@@ -4,8 +4,8 @@ import java.lang.annotation.Annotation;
 
 final class ComponentFactory {
 
-    private static final ComponentPriority FALLBACK_PRIORITY = ComponentPriority.NORMAL;
-    private static final int FALLBACK_ORDER = 0;
+    static final ComponentPriority FALLBACK_PRIORITY = ComponentPriority.NORMAL;
+    static final int FALLBACK_ORDER = 0;
 
     <A extends Annotation> Component<A> create(
             Class<?> type,
@@ -0,0 +1,130 @@
+package com.github.imdmk.playtime.core.injector;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Splits components into layers, every component only depends on components of earlier layers.
+ * A component depends on the components it injects and on every component of a lower priority,
+ * so priority bands still start in order and layering only happens inside a band.
+ * Layers keep the order of the given list, so sorting first keeps startup deterministic.
+ */
+final class ComponentGraph {
+
+    // config files also bind their public fields, so a field type counts as provided
+    private final Map<Class<?>, Set<Class<?>>> fieldTypes = new HashMap<>();
+
+    List<List<Component<?>>> layers(
+            List<Component<?>> components,
+            Function<Component<?>, Collection<Class<?>>> dependencies
+    ) {
+        Map<Component<?>, List<Component<?>>> providers = new IdentityHashMap<>();
+        for (Component<?> component : components) {
+            providers.put(component, providersOf(component, dependencies.apply(component), components));
+        }
+
+        Map<Component<?>, Integer> depths = new IdentityHashMap<>();
+        List<List<Component<?>>> layers = new ArrayList<>();
+        for (Component<?> component : components) {
+            int depth = depth(component, providers, depths, new ArrayList<>());
+            while (layers.size() <= depth) {
+                layers.add(new ArrayList<>());
+            }
+        }
+
+        for (Component<?> component : components) {
+            layers.get(depths.get(component)).add(component);
+        }
+
+        return layers;
+    }
+
+    private int depth(
+            Component<?> component,
+            Map<Component<?>, List<Component<?>>> providers,
+            Map<Component<?>, Integer> depths,
+            List<Component<?>> path
+    ) {
+        Integer known = depths.get(component);
+        if (known != null) {
+            return known;
+        }
+
+        if (path.contains(component)) {
+            throw new IllegalStateException("Circular component dependency: " + describe(path, component));
+        }
+
+        path.add(component);
+
+        int depth = 0;
+        for (Component<?> provider : providers.get(component)) {
+            depth = Math.max(depth, depth(provider, providers, depths, path) + 1);
+        }
+
+        path.remove(path.size() - 1);
+        depths.put(component, depth);
+        return depth;
+    }
+
+    private List<Component<?>> providersOf(
+            Component<?> component,
+            Collection<Class<?>> dependencies,
+            List<Component<?>> components
+    ) {
+        Set<Component<?>> providers = new HashSet<>();
+        for (Class<?> dependency : dependencies) {
+            for (Component<?> candidate : components) {
+                if (candidate != component && provides(candidate, dependency)) {
+                    providers.add(candidate);
+                }
+            }
+        }
+
+        for (Component<?> candidate : components) {
+            if (candidate.priority().compareTo(component.priority()) < 0) {
+                providers.add(candidate);
+            }
+        }
+
+        // keep the input order, the traversal and its cycle message stay deterministic
+        List<Component<?>> ordered = new ArrayList<>(providers.size());
+        for (Component<?> candidate : components) {
+            if (providers.contains(candidate)) {
+                ordered.add(candidate);
+            }
+        }
+        return ordered;
+    }
+
+    private boolean provides(Component<?> candidate, Class<?> dependency) {
+        return dependency.isAssignableFrom(candidate.type())
+                || fieldTypes.computeIfAbsent(candidate.type(), ComponentGraph::publicFieldTypes).contains(dependency);
+    }
+
+    private static Set<Class<?>> publicFieldTypes(Class<?> type) {
+        Set<Class<?>> types = new HashSet<>();
+        for (Field field : type.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                types.add(field.getType());
+            }
+        }
+        return types;
+    }
+
+    private static String describe(List<Component<?>> path, Component<?> repeated) {
+        StringBuilder builder = new StringBuilder();
+        for (Component<?> component : path.subList(path.indexOf(repeated), path.size())) {
+            builder.append(component.type().getSimpleName()).append(" -> ");
+        }
+        return builder.append(repeated.type().getSimpleName()).toString();
+    }
+}
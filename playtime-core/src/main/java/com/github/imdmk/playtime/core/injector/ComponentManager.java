@@ -4,29 +4,53 @@ import com.github.imdmk.playtime.core.injector.processor.ComponentPostProcessor;
 import com.github.imdmk.playtime.core.injector.processor.ComponentProcessor;
 import com.github.imdmk.playtime.core.injector.processor.ComponentProcessorContext;
 import com.github.imdmk.playtime.core.injector.processor.ProcessorContainer;
+import org.jetbrains.annotations.Unmodifiable;
 import org.panda_lang.utilities.inject.DependencyInjectionException;
 import org.panda_lang.utilities.inject.Injector;
+import org.panda_lang.utilities.inject.annotations.Inject;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Creates and processes the scanned components layer by layer, see {@link ComponentGraph}.
+ * <p>
+ * Components are constructed through the shared {@link Injector} on the calling thread, one after another.
+ * Only {@link ComponentProcessor#prepare} runs in parallel on {@code playtime-component-*} threads,
+ * so that is the only step that must not touch the Bukkit API that requires the main thread;
+ * {@code process} and the post processors run on the calling thread again.
+ */
 public final class ComponentManager {
 
+    private static final int MAX_PARALLELISM = 4;
+
     private final Injector injector;
     private final ComponentScanner scanner;
     private final ComponentSorter sorter;
+    private final ComponentGraph graph;
 
     // annotation -> processor container
     private final Map<Class<? extends Annotation>, ProcessorContainer<?>> processors = new LinkedHashMap<>();
     private final List<ComponentPostProcessor> postProcessors = new ArrayList<>();
     private final List<Component<?>> components = new ArrayList<>();
+    private final List<ComponentTiming> timings = new ArrayList<>();
 
     private boolean scanned = false;
+    private long scanNanos;
+    private int layerCount;
 
     public ComponentManager(Injector injector, String basePackage) {
         this.injector = injector;
         this.scanner = new ComponentScanner(basePackage);
         this.sorter = new ComponentSorter();
+        this.graph = new ComponentGraph();
     }
 
     public ComponentManager addProcessor(ProcessorContainer<?> container) {
@@ -65,9 +89,9 @@ public final class ComponentManager {
             throw new IllegalStateException("scanAll() already called");
         }
 
-        for (ProcessorContainer<?> container : processors.values()) {
-            components.addAll(scanner.scan(container.annotationType()));
-        }
+        long start = System.nanoTime();
+        components.addAll(scanner.scan(processors.keySet()));
+        scanNanos = System.nanoTime() - start;
 
         scanned = true;
     }
@@ -80,17 +104,91 @@ public final class ComponentManager {
         ComponentProcessorContext context = new ComponentProcessorContext(injector);
 
         sorter.sort(components);
+        List<List<Component<?>>> layers = graph.layers(components, this::dependencies);
+        layerCount = layers.size();
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism(), new ComponentThreadFactory());
+        try {
+            for (int layer = 0; layer < layers.size(); layer++) {
+                processLayer(layers.get(layer), layer, context, executor);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
 
+        // subscribers keep the sorted order, shutdown handlers still run in reverse of it
         for (Component<?> component : components) {
-            processComponent(component, context);
+            for (ComponentPostProcessor post : postProcessors) {
+                post.postProcess(component.instance(), context);
+            }
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private <A extends Annotation> void processComponent(
-            Component<A> component,
-            ComponentProcessorContext context
+    @Unmodifiable
+    public List<ComponentTiming> timings() {
+        return Collections.unmodifiableList(timings);
+    }
+
+    public long scanNanos() {
+        return scanNanos;
+    }
+
+    public int layerCount() {
+        return layerCount;
+    }
+
+    // instances are created on this thread, only the slow prepare step of a layer runs concurrently
+    private void processLayer(
+            List<Component<?>> layer,
+            int index,
+            ComponentProcessorContext context,
+            ExecutorService executor
     ) {
+        long[] instantiateNanos = new long[layer.size()];
+        for (int i = 0; i < layer.size(); i++) {
+            instantiateNanos[i] = createInstance(layer.get(i));
+        }
+
+        List<CompletableFuture<Long>> futures = new ArrayList<>(layer.size());
+        for (Component<?> component : layer) {
+            futures.add(layer.size() == 1
+                    ? CompletableFuture.completedFuture(prepareComponent(component, context))
+                    : CompletableFuture.supplyAsync(() -> prepareComponent(component, context), executor));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+
+        for (int i = 0; i < layer.size(); i++) {
+            Component<?> component = layer.get(i);
+
+            long prepareNanos;
+            try {
+                prepareNanos = futures.get(i).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+
+            long start = System.nanoTime();
+            processComponent(component, context);
+
+            timings.add(new ComponentTiming(
+                    component.type(),
+                    component.annotation().annotationType().getSimpleName(),
+                    index,
+                    instantiateNanos[i],
+                    prepareNanos,
+                    System.nanoTime() - start
+            ));
+        }
+    }
+
+    private long createInstance(Component<?> component) {
+        long start = System.nanoTime();
         try {
             component.createInstance(injector);
         } catch (DependencyInjectionException e) {
@@ -99,6 +197,36 @@ public final class ComponentManager {
             );
         }
 
+        return System.nanoTime() - start;
+    }
+
+    private <A extends Annotation> long prepareComponent(
+            Component<A> component,
+            ComponentProcessorContext context
+    ) {
+        long start = System.nanoTime();
+        processor(component).prepare(
+                component.instance(),
+                component.annotation(),
+                context
+        );
+
+        return System.nanoTime() - start;
+    }
+
+    private <A extends Annotation> void processComponent(
+            Component<A> component,
+            ComponentProcessorContext context
+    ) {
+        processor(component).process(
+                component.instance(),
+                component.annotation(),
+                context
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private <A extends Annotation> ComponentProcessor<A> processor(Component<A> component) {
         ProcessorContainer<?> raw = processors.get(component.annotation().annotationType());
         if (raw == null) {
             throw new IllegalStateException(
@@ -106,17 +234,39 @@ public final class ComponentManager {
             );
         }
 
-        ProcessorContainer<A> container = (ProcessorContainer<A>) raw;
-        ComponentProcessor<A> processor = container.processor();
+        return ((ProcessorContainer<A>) raw).processor();
+    }
 
-        processor.process(
-                component.instance(),
-                component.annotation(),
-                context
-        );
+    private Collection<Class<?>> dependencies(Component<?> component) {
+        List<Class<?>> dependencies = new ArrayList<>(processor(component).dependencies());
+
+        Constructor<?>[] constructors = component.type().getDeclaredConstructors();
+        for (Constructor<?> constructor : constructors) {
+            if (constructor.isAnnotationPresent(Inject.class)) {
+                dependencies.addAll(Arrays.asList(constructor.getParameterTypes()));
+                return dependencies;
+            }
+        }
+
+        if (constructors.length == 1) {
+            dependencies.addAll(Arrays.asList(constructors[0].getParameterTypes()));
+        }
+        return dependencies;
+    }
+
+    private static int parallelism() {
+        return Math.max(1, Math.min(MAX_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+    }
+
+    private static final class ComponentThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
 
-        for (ComponentPostProcessor post : postProcessors) {
-            post.postProcess(component.instance(), context);
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "playtime-component-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
         }
     }
-}
\ No newline at end of file
+}
@@ -3,42 +3,170 @@ package com.github.imdmk.playtime.core.injector;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 final class ComponentScanner {
 
+    // written at build time by the generateComponentIndex task
+    static final String INDEX_RESOURCE = "META-INF/playtime/components.index";
+
     private static final String SHADED_LIBS = "com.github.imdmk.playtime.lib";
 
     private final String basePackage;
     private final ComponentFactory componentFactory;
+    private final ClassLoader classLoader;
 
     ComponentScanner(String basePackage) {
         this.basePackage = basePackage;
         this.componentFactory = new ComponentFactory();
+        this.classLoader = ComponentScanner.class.getClassLoader();
+    }
+
+    List<Component<?>> scan(Collection<Class<? extends Annotation>> annotationTypes) {
+        List<IndexEntry> index = readIndex();
+        if (index != null) {
+            return fromIndex(index, annotationTypes);
+        }
+
+        return scanClasspath(annotationTypes);
+    }
+
+    private List<Component<?>> fromIndex(
+            List<IndexEntry> index,
+            Collection<Class<? extends Annotation>> annotationTypes
+    ) {
+        Map<String, Class<? extends Annotation>> byName = new HashMap<>();
+        for (Class<? extends Annotation> annotationType : annotationTypes) {
+            byName.put(annotationType.getName(), annotationType);
+        }
+
+        List<Component<?>> components = new ArrayList<>();
+        for (IndexEntry entry : index) {
+            Class<? extends Annotation> annotationType = byName.get(entry.annotationName());
+            if (annotationType == null || !entry.className().startsWith(basePackage)) {
+                continue;
+            }
+
+            Class<?> type = loadClass(entry.className());
+            if (!isValidComponent(type)) {
+                continue;
+            }
+
+            components.add(fromIndex(type, annotationType, entry));
+        }
+
+        return components;
+    }
+
+    private static <A extends Annotation> Component<A> fromIndex(
+            Class<?> type,
+            Class<A> annotationType,
+            IndexEntry entry
+    ) {
+        A annotation = type.getAnnotation(annotationType);
+        if (annotation == null) {
+            throw new IllegalStateException(
+                    "Component index is out of date: " + type.getName() + " is not annotated with " + annotationType.getName()
+            );
+        }
+
+        return new Component<>(type, annotation, entry.priority(), entry.order());
     }
 
-    <A extends Annotation> List<Component<A>> scan(Class<A> annotationType) {
+    // a single scan for every annotation type, only used when the index is missing (e.g. running from an IDE)
+    private List<Component<?>> scanClasspath(Collection<Class<? extends Annotation>> annotationTypes) {
         try (ScanResult scan = new ClassGraph()
-                .enableAllInfo()
+                .enableAnnotationInfo()
                 .acceptPackages(basePackage)
                 .rejectPackages(SHADED_LIBS)
                 .scan()) {
 
-            return scan.getClassesWithAnnotation(annotationType.getName())
-                    .stream()
-                    .map(ClassInfo::loadClass)
-                    .filter(ComponentScanner::isValidComponent)
-                    .map(type -> componentFactory.create(type, annotationType))
-                    .toList();
+            List<Component<?>> components = new ArrayList<>();
+            for (Class<? extends Annotation> annotationType : annotationTypes) {
+                scan.getClassesWithAnnotation(annotationType.getName())
+                        .stream()
+                        .map(ClassInfo::loadClass)
+                        .filter(ComponentScanner::isValidComponent)
+                        .map(type -> componentFactory.create(type, annotationType))
+                        .forEach(components::add);
+            }
+
+            return components;
+        }
+    }
+
+    @Nullable
+    private List<IndexEntry> readIndex() {
+        try (InputStream input = classLoader.getResourceAsStream(INDEX_RESOURCE)) {
+            if (input == null) {
+                return null;
+            }
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            List<IndexEntry> entries = new ArrayList<>();
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                entries.add(IndexEntry.parse(line));
+            }
+
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read component index " + INDEX_RESOURCE, e);
+        }
+    }
+
+    private Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Indexed component class not found: " + className, e);
         }
     }
 
     private static boolean isValidComponent(Class<?> type) {
         return !type.isInterface() && !Modifier.isAbstract(type.getModifiers());
     }
-}
 
+    // class|annotation|priority|order, priority and order are empty when the annotation does not declare them
+    private record IndexEntry(
+            String className,
+            String annotationName,
+            ComponentPriority priority,
+            int order
+    ) {
 
+        static IndexEntry parse(String line) {
+            String[] parts = line.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalStateException("Malformed component index line: " + line);
+            }
+
+            return new IndexEntry(
+                    parts[0],
+                    parts[1],
+                    parts[2].isEmpty() ? ComponentFactory.FALLBACK_PRIORITY : ComponentPriority.valueOf(parts[2]),
+                    parts[3].isEmpty() ? ComponentFactory.FALLBACK_ORDER : Integer.parseInt(parts[3])
+            );
+        }
+    }
+}
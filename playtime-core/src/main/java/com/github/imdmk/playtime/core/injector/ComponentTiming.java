@@ -0,0 +1,15 @@
+package com.github.imdmk.playtime.core.injector;
+
+public record ComponentTiming(
+        Class<?> type,
+        String annotation,
+        int layer,
+        long instantiateNanos,
+        long prepareNanos,
+        long processNanos
+) {
+
+    public long totalNanos() {
+        return instantiateNanos + prepareNanos + processNanos;
+    }
+}
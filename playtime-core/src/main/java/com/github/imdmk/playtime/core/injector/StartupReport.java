@@ -0,0 +1,152 @@
+package com.github.imdmk.playtime.core.injector;
+
+import com.github.imdmk.playtime.core.injector.subscriber.SubscriberMailboxStats;
+import com.github.imdmk.playtime.core.injector.subscriber.SubscriberTiming;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Wall times of the last enable, filled in once the plugin finished loading.
+ */
+public final class StartupReport {
+
+    private static final Comparator<ComponentTiming> BY_COMPONENT_TIME = Comparator
+            .comparingLong(ComponentTiming::totalNanos).reversed()
+            .thenComparing(timing -> timing.type().getName());
+
+    private static final Comparator<SubscriberTiming> BY_HANDLER_TIME = Comparator
+            .comparingLong(SubscriberTiming::nanos).reversed()
+            .thenComparing(timing -> timing.type().getName())
+            .thenComparing(SubscriberTiming::method);
+
+    private volatile Snapshot snapshot = new Snapshot(0L, 0L, 0, List.of(), List.of());
+
+    public void record(
+            long totalNanos,
+            long scanNanos,
+            int layers,
+            List<ComponentTiming> components,
+            List<SubscriberTiming> initializeHandlers
+    ) {
+        snapshot = new Snapshot(
+                totalNanos,
+                scanNanos,
+                layers,
+                components.stream().sorted(BY_COMPONENT_TIME).toList(),
+                initializeHandlers.stream().sorted(BY_HANDLER_TIME).toList()
+        );
+    }
+
+    public long totalNanos() {
+        return snapshot.totalNanos();
+    }
+
+    public long scanNanos() {
+        return snapshot.scanNanos();
+    }
+
+    public int layers() {
+        return snapshot.layers();
+    }
+
+    // slowest first
+    @Unmodifiable
+    public List<ComponentTiming> components() {
+        return snapshot.components();
+    }
+
+    // slowest first
+    @Unmodifiable
+    public List<SubscriberTiming> initializeHandlers() {
+        return snapshot.initializeHandlers();
+    }
+
+    public List<String> table(int limit) {
+        Snapshot current = snapshot;
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(
+                "Startup report: %s total, %s component scan, %d components in %d layers",
+                millis(current.totalNanos()),
+                millis(current.scanNanos()),
+                current.components().size(),
+                current.layers()
+        ));
+        lines.add(String.format(
+                "  %-40s %-14s %5s %9s %9s %9s %9s",
+                "component", "kind", "layer", "create", "prepare", "process", "total"
+        ));
+
+        for (ComponentTiming timing : current.components().subList(0, Math.min(limit, current.components().size()))) {
+            lines.add(String.format(
+                    "  %-40s %-14s %5d %9s %9s %9s %9s",
+                    timing.type().getSimpleName(),
+                    timing.annotation(),
+                    timing.layer(),
+                    millis(timing.instantiateNanos()),
+                    millis(timing.prepareNanos()),
+                    millis(timing.processNanos()),
+                    millis(timing.totalNanos())
+            ));
+        }
+
+        lines.addAll(handlerTable("initialize handlers", current.initializeHandlers(), limit));
+        return lines;
+    }
+
+    public static List<String> handlerTable(String title, List<SubscriberTiming> timings, int limit) {
+        List<SubscriberTiming> sorted = timings.stream()
+                .sorted(BY_HANDLER_TIME)
+                .limit(limit)
+                .toList();
+
+        long totalNanos = timings.stream()
+                .mapToLong(SubscriberTiming::nanos)
+                .sum();
+
+        List<String> lines = new ArrayList<>(sorted.size() + 1);
+        lines.add(String.format("  %s: %d handlers, %s total", title, timings.size(), millis(totalNanos)));
+        for (SubscriberTiming timing : sorted) {
+            lines.add(String.format(
+                    "  %-62s %9s",
+                    timing.type().getSimpleName() + "#" + timing.method(),
+                    millis(timing.nanos())
+            ));
+        }
+        return lines;
+    }
+
+    public static List<String> mailboxTable(List<SubscriberMailboxStats> mailboxes) {
+        long dropped = mailboxes.stream()
+                .mapToLong(SubscriberMailboxStats::dropped)
+                .sum();
+
+        List<String> lines = new ArrayList<>(mailboxes.size() + 1);
+        lines.add(String.format("  async subscribers: %d mailboxes, %d events dropped", mailboxes.size(), dropped));
+        for (SubscriberMailboxStats mailbox : mailboxes) {
+            lines.add(String.format(
+                    "  %-52s %9s %9s",
+                    mailbox.type().getSimpleName() + "#" + mailbox.method(),
+                    mailbox.queued() + "/" + mailbox.capacity(),
+                    mailbox.dropped() + " dropped"
+            ));
+        }
+        return lines;
+    }
+
+    public static String millis(long nanos) {
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+
+    private record Snapshot(
+            long totalNanos,
+            long scanNanos,
+            int layers,
+            List<ComponentTiming> components,
+            List<SubscriberTiming> initializeHandlers
+    ) {
+    }
+}
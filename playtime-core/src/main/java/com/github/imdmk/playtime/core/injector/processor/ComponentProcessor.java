@@ -1,11 +1,31 @@
 package com.github.imdmk.playtime.core.injector.processor;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.List;
 
 public interface ComponentProcessor<A extends Annotation> {
 
     Class<A> annotation();
 
+    /**
+     * Types that have to be bound before this processor can handle a component.
+     */
+    default Collection<Class<?>> dependencies() {
+        return List.of();
+    }
+
+    /**
+     * Slow work (I/O, connections) for a component. Runs concurrently with other components
+     * of the same dependency layer, so it must not bind anything into the injector.
+     */
+    default void prepare(
+            Object instance,
+            A annotation,
+            ComponentProcessorContext context
+    ) {
+    }
+
     void process(
             Object instance,
             A annotation,
@@ -0,0 +1,80 @@
+package com.github.imdmk.playtime.core.injector.processor;
+
+import org.panda_lang.utilities.inject.annotations.Inject;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Creates the processor through the injector on first use and reuses it for every component.
+ */
+final class ComponentProcessorLazy<A extends Annotation>
+        implements ComponentProcessor<A> {
+
+    private final Class<A> annotation;
+    private final Class<? extends ComponentProcessor<A>> processorClass;
+
+    private volatile ComponentProcessor<A> processor;
+
+    ComponentProcessorLazy(
+            Class<A> annotation,
+            Class<? extends ComponentProcessor<A>> processorClass
+    ) {
+        this.annotation = annotation;
+        this.processorClass = processorClass;
+    }
+
+    @Override
+    public Class<A> annotation() {
+        return annotation;
+    }
+
+    @Override
+    public Collection<Class<?>> dependencies() {
+        Constructor<?>[] constructors = processorClass.getConstructors();
+        for (Constructor<?> constructor : constructors) {
+            if (constructor.isAnnotationPresent(Inject.class)) {
+                return Arrays.asList(constructor.getParameterTypes());
+            }
+        }
+
+        return constructors.length == 1
+                ? Arrays.asList(constructors[0].getParameterTypes())
+                : List.of();
+    }
+
+    @Override
+    public void prepare(
+            Object instance,
+            A annotation,
+            ComponentProcessorContext context
+    ) {
+        processor(context).prepare(instance, annotation, context);
+    }
+
+    @Override
+    public void process(
+            Object instance,
+            A annotation,
+            ComponentProcessorContext context
+    ) {
+        processor(context).process(instance, annotation, context);
+    }
+
+    private ComponentProcessor<A> processor(ComponentProcessorContext context) {
+        ComponentProcessor<A> current = processor;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (processor == null) {
+                processor = context.injector().newInstance(processorClass);
+            }
+            return processor;
+        }
+    }
+}
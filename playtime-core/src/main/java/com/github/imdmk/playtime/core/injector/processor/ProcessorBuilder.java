@@ -7,7 +7,7 @@ import java.lang.annotation.Annotation;
 public final class ProcessorBuilder<A extends Annotation> {
 
     private final Class<A> annotation;
-    private ProcessorHandler<A> handler;
+    private ComponentProcessor<A> processor;
 
     private ProcessorBuilder(Class<A> annotation) {
         this.annotation = annotation;
@@ -28,35 +28,29 @@ public final class ProcessorBuilder<A extends Annotation> {
 
     @CheckReturnValue
     public ProcessorBuilder<A> handle(ProcessorHandler<A> handler) {
-        this.handler = handler;
+        this.processor = new ComponentProcessorFunctional<>(annotation, handler);
         return this;
     }
 
     @CheckReturnValue
     public ProcessorBuilder<A> processor(ComponentProcessor<A> processor) {
-        this.handler = processor::process;
+        this.processor = processor;
         return this;
     }
 
     @CheckReturnValue
     public ProcessorBuilder<A> processor(Class<? extends ComponentProcessor<A>> processorClass) {
-        this.handler = (instance, annotation, ctx) ->
-                ctx.injector()
-                        .newInstance(processorClass)
-                        .process(instance, annotation, ctx);
+        this.processor = new ComponentProcessorLazy<>(annotation, processorClass);
         return this;
     }
 
     public ProcessorContainer<A> build() {
-        if (handler == null) {
+        if (processor == null) {
             throw new IllegalStateException(
                     "Processor for @" + annotation.getSimpleName() + " has no handler defined"
             );
         }
 
-        return new ProcessorContainer<>(
-                annotation,
-                new ComponentProcessorFunctional<>(annotation, handler)
-        );
+        return new ProcessorContainer<>(annotation, processor);
     }
 }
\ No newline at end of file
@@ -22,6 +22,21 @@ public final class ConfigFileProcessor implements ComponentProcessor<ConfigFile>
         return ConfigFile.class;
     }
 
+    @Override
+    public void prepare(
+            Object instance,
+            ConfigFile annotation,
+            ComponentProcessorContext context
+    ) {
+        ConfigSection config = requireInstance(
+                instance,
+                ConfigSection.class,
+                ConfigFile.class
+        );
+
+        configService.create(config.getClass());
+    }
+
     @Override
     public void process(
             Object instance,
@@ -35,13 +50,14 @@ public final class ConfigFileProcessor implements ComponentProcessor<ConfigFile>
                 ConfigFile.class
         );
 
-        configService.create(config.getClass());
+        // bind the loaded instance, the injector-created one only holds defaults
+        ConfigSection loaded = configService.require(config.getClass());
         resources.on(config.getClass())
-                .assignInstance(instance);
+                .assignInstance(loaded);
 
-        for (Field field : config.getClass().getFields()) {
+        for (Field field : loaded.getClass().getFields()) {
             try {
-                Object value = field.get(config);
+                Object value = field.get(loaded);
                 if (value != null) {
                     resources.on(field.getType())
                             .assignInstance(value);
@@ -15,7 +15,7 @@ public final class DatabaseProcessor implements ComponentProcessor<Database> {
     }
 
     @Override
-    public void process(
+    public void prepare(
             Object instance,
             Database annotation,
             ComponentProcessorContext context
@@ -31,6 +31,19 @@ public final class DatabaseProcessor implements ComponentProcessor<Database> {
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
+    }
+
+    @Override
+    public void process(
+            Object instance,
+            Database annotation,
+            ComponentProcessorContext context
+    ) {
+        DatabaseManager bootstrap = requireInstance(
+                instance,
+                DatabaseManager.class,
+                Database.class
+        );
 
         context.injector().getResources()
                 .on(DatabaseManager.class)
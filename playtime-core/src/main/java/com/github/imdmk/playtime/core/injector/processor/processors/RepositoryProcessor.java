@@ -1,7 +1,7 @@
 package com.github.imdmk.playtime.core.injector.processor.processors;
 
+import com.github.imdmk.playtime.core.database.repository.RepositoryBootstrap;
 import com.github.imdmk.playtime.core.database.repository.RepositoryInitializationException;
-import com.github.imdmk.playtime.core.database.repository.ormlite.OrmLiteRepository;
 import com.github.imdmk.playtime.core.injector.annotations.Repository;
 import com.github.imdmk.playtime.core.injector.processor.ComponentProcessor;
 import com.github.imdmk.playtime.core.injector.processor.ComponentProcessorContext;
@@ -14,22 +14,43 @@ public final class RepositoryProcessor implements ComponentProcessor<Repository>
     }
 
     @Override
-    public void process(
+    public void prepare(
             Object instance,
             Repository annotation,
             ComponentProcessorContext context
     ) {
-        OrmLiteRepository<?, ?> repository = requireInstance(
+        RepositoryBootstrap repository = requireInstance(
                 instance,
-                OrmLiteRepository.class,
+                RepositoryBootstrap.class,
                 Repository.class
         );
 
+        if (!repository.isEnabled()) {
+            return;
+        }
+
         try {
             repository.start();
         } catch (RepositoryInitializationException e) {
             throw new RuntimeException(e);
         }
+    }
+
+    @Override
+    public void process(
+            Object instance,
+            Repository annotation,
+            ComponentProcessorContext context
+    ) {
+        RepositoryBootstrap repository = requireInstance(
+                instance,
+                RepositoryBootstrap.class,
+                Repository.class
+        );
+
+        if (!repository.isEnabled()) {
+            return;
+        }
 
         context.injector().getResources()
                 .on(repository.getClass())
@@ -1,59 +1,212 @@
 package com.github.imdmk.playtime.core.injector.subscriber;
 
+import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeInitializeEvent;
+import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeShutdownEvent;
 import com.github.imdmk.playtime.core.injector.subscriber.event.SubscribeEvent;
+import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
+import org.jetbrains.annotations.Unmodifiable;
 import org.panda_lang.utilities.inject.Injector;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class LocalPublisher implements Publisher {
 
+    // lifecycle events are published once, timing every handler is cheap and explains slow enables/disables
+    private static final Set<Class<? extends SubscribeEvent>> TIMED_EVENTS = Set.of(
+            PlayTimeInitializeEvent.class,
+            PlayTimeShutdownEvent.class
+    );
+
+    private static final int ASYNC_THREADS = 2;
+    private static final int MAILBOX_CAPACITY = 1024;
+
     private final Injector injector;
+    private final PluginLogger logger;
+    private final ExecutorService asyncExecutor;
+
+    private final Object registryLock = new Object();
+    private volatile Registry registry = new Registry(Map.of());
 
-    private final Map<Class<? extends SubscribeEvent>, List<SubscriberMethod>>
-            subscribers = new HashMap<>();
+    private final Map<Class<? extends SubscribeEvent>, List<SubscriberTiming>>
+            timings = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    public LocalPublisher(Injector injector, PluginLogger logger) {
+        this(injector, logger, Executors.newFixedThreadPool(ASYNC_THREADS, new AsyncThreadFactory()));
+    }
 
-    public LocalPublisher(Injector injector) {
+    LocalPublisher(Injector injector, PluginLogger logger, ExecutorService asyncExecutor) {
         this.injector = injector;
+        this.logger = logger;
+        this.asyncExecutor = asyncExecutor;
     }
 
     @Override
     public void subscribe(Object instance) {
+        List<Map.Entry<Class<? extends SubscribeEvent>, Subscription>> added = new ArrayList<>();
         for (Method method : instance.getClass().getDeclaredMethods()) {
             Subscribe subscribe = method.getAnnotation(Subscribe.class);
             if (subscribe == null) {
                 continue;
             }
 
-            method.setAccessible(true);
+            SubscriberInvoker invoker = SubscriberInvoker.create(
+                    injector,
+                    instance,
+                    method,
+                    subscribe.event(),
+                    sequence.getAndIncrement()
+            );
+            SubscriberMailbox mailbox = subscribe.async()
+                    ? new SubscriberMailbox(invoker, asyncExecutor, logger, MAILBOX_CAPACITY)
+                    : null;
+
+            added.add(Map.entry(subscribe.event(), new Subscription(invoker, mailbox)));
+        }
+
+        if (added.isEmpty()) {
+            return;
+        }
+
+        // copy on write, publishers keep iterating the snapshot they started with
+        synchronized (registryLock) {
+            Map<Class<? extends SubscribeEvent>, List<Subscription>> copy = new HashMap<>(registry.subscribers());
+            for (Map.Entry<Class<? extends SubscribeEvent>, Subscription> entry : added) {
+                List<Subscription> list = new ArrayList<>(copy.getOrDefault(entry.getKey(), List.of()));
+                list.add(entry.getValue());
+                copy.put(entry.getKey(), List.copyOf(list));
+            }
 
-            subscribers
-                    .computeIfAbsent(subscribe.event(), k -> new ArrayList<>())
-                    .add(new SubscriberMethod(instance, method));
+            registry = new Registry(Map.copyOf(copy));
         }
     }
 
     @Override
     public <E extends SubscribeEvent> E publish(E event) {
-        List<SubscriberMethod> list = subscribers.get(event.getClass());
-        if (list == null) {
+        List<Subscription> ordered = registry.dispatch(event.getClass());
+        if (ordered.isEmpty()) {
             return event;
         }
 
-        for (SubscriberMethod subscriber : list) {
-            Object instance = subscriber.instance();
-            Method method = subscriber.method();
+        if (TIMED_EVENTS.contains(event.getClass())) {
+            publishTimed(event, ordered);
+            return event;
+        }
 
-            injector.invokeMethod(method, instance, event);
+        for (Subscription subscription : ordered) {
+            subscription.deliver(event);
         }
 
         return event;
     }
 
-    private record SubscriberMethod(Object instance, Method method) {
+    @Unmodifiable
+    public List<SubscriberTiming> timings(Class<? extends SubscribeEvent> event) {
+        return timings.getOrDefault(event, List.of());
     }
-}
 
+    // async subscribers in subscribe order
+    @Unmodifiable
+    public List<SubscriberMailboxStats> mailboxStats() {
+        return registry.subscribers().values().stream()
+                .flatMap(List::stream)
+                .filter(subscription -> subscription.mailbox() != null)
+                .sorted(Comparator.comparingLong(subscription -> subscription.invoker().sequence()))
+                .map(subscription -> subscription.mailbox().stats())
+                .toList();
+    }
+
+    // lets queued async deliveries finish, anything still queued after the timeout is dropped
+    public void shutdown(Duration timeout) {
+        asyncExecutor.shutdown();
+        try {
+            if (!asyncExecutor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                asyncExecutor.shutdownNow();
+                logger.warn("Async subscribers did not finish within %dms, remaining events were dropped", timeout.toMillis());
+            }
+        } catch (InterruptedException e) {
+            asyncExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publishTimed(SubscribeEvent event, List<Subscription> ordered) {
+        List<SubscriberTiming> recorded = new ArrayList<>(ordered.size());
+        try {
+            for (Subscription subscription : ordered) {
+                long start = System.nanoTime();
+                subscription.deliver(event);
+                recorded.add(new SubscriberTiming(
+                        subscription.invoker().instance().getClass(),
+                        subscription.invoker().method().getName(),
+                        System.nanoTime() - start
+                ));
+            }
+        } finally {
+            timings.put(event.getClass(), List.copyOf(recorded));
+        }
+    }
+
+    private static final class Registry {
+
+        private final Map<Class<? extends SubscribeEvent>, List<Subscription>> subscribers;
+        // concrete event class -> subscriptions of the class and all its supertypes, in dispatch order
+        private final Map<Class<?>, List<Subscription>> dispatch = new ConcurrentHashMap<>();
+
+        private Registry(Map<Class<? extends SubscribeEvent>, List<Subscription>> subscribers) {
+            this.subscribers = subscribers;
+        }
+
+        private Map<Class<? extends SubscribeEvent>, List<Subscription>> subscribers() {
+            return subscribers;
+        }
+
+        private List<Subscription> dispatch(Class<?> eventType) {
+            return dispatch.computeIfAbsent(eventType, this::resolve);
+        }
+
+        private List<Subscription> resolve(Class<?> eventType) {
+            List<Subscription> resolved = new ArrayList<>();
+            for (Class<?> type = eventType; type != null && SubscribeEvent.class.isAssignableFrom(type); type = type.getSuperclass()) {
+                resolved.addAll(subscribers.getOrDefault(type, List.of()));
+            }
+
+            resolved.sort(Comparator.comparingLong(subscription -> subscription.invoker().sequence()));
+
+            // shutdown runs in reverse registration order, so dependents are released before their dependencies
+            if (PlayTimeShutdownEvent.class.isAssignableFrom(eventType)) {
+                Collections.reverse(resolved);
+            }
+
+            return List.copyOf(resolved);
+        }
+    }
+
+    private static final class AsyncThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "playtime-events-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -13,5 +13,10 @@ public @interface Subscribe {
 
     Class<? extends SubscribeEvent> event();
 
-}
+    /**
+     * Delivers events off the publishing thread, in publish order, through a bounded mailbox.
+     * Events are dropped when the mailbox is full.
+     */
+    boolean async() default false;
 
+}
@@ -0,0 +1,107 @@
+package com.github.imdmk.playtime.core.injector.subscriber;
+
+import com.github.imdmk.playtime.core.injector.subscriber.event.SubscribeEvent;
+import org.jetbrains.annotations.Nullable;
+import org.panda_lang.utilities.inject.Injector;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A subscriber method bound once at subscribe time.
+ * Methods taking nothing or only the event are called through a method handle,
+ * anything asking for other arguments still goes through the injector.
+ */
+final class SubscriberInvoker {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, SubscribeEvent.class);
+
+    private final Object instance;
+    private final Method method;
+    private final long sequence;
+
+    private final Injector injector;
+    private final @Nullable MethodHandle handle;
+
+    private SubscriberInvoker(
+            Object instance,
+            Method method,
+            long sequence,
+            Injector injector,
+            @Nullable MethodHandle handle
+    ) {
+        this.instance = instance;
+        this.method = method;
+        this.sequence = sequence;
+        this.injector = injector;
+        this.handle = handle;
+    }
+
+    static SubscriberInvoker create(
+            Injector injector,
+            Object instance,
+            Method method,
+            Class<? extends SubscribeEvent> event,
+            long sequence
+    ) {
+        method.setAccessible(true);
+        return new SubscriberInvoker(instance, method, sequence, injector, bind(instance, method, event));
+    }
+
+    Object instance() {
+        return instance;
+    }
+
+    Method method() {
+        return method;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    void invoke(SubscribeEvent event) {
+        if (handle == null) {
+            injector.invokeMethod(method, instance, event);
+            return;
+        }
+
+        try {
+            handle.invokeExact(event);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(
+                    "Subscriber " + instance.getClass().getName() + "#" + method.getName() + " failed", e
+            );
+        }
+    }
+
+    @Nullable
+    private static MethodHandle bind(Object instance, Method method, Class<? extends SubscribeEvent> event) {
+        Class<?>[] parameters = method.getParameterTypes();
+        if (parameters.length > 1 || (parameters.length == 1 && !parameters[0].isAssignableFrom(event))) {
+            return null;
+        }
+
+        MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+
+        if (!Modifier.isStatic(method.getModifiers())) {
+            handle = handle.bindTo(instance);
+        }
+        if (parameters.length == 0) {
+            handle = MethodHandles.dropArguments(handle, 0, SubscribeEvent.class);
+        }
+
+        return handle.asType(INVOKER_TYPE);
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.imdmk.playtime.core.injector.subscriber;
+
+import com.github.imdmk.playtime.core.injector.subscriber.event.SubscribeEvent;
+import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded queue of events for one async subscriber. At most one drain runs at a time,
+ * so the subscriber sees events in publish order.
+ */
+final class SubscriberMailbox {
+
+    private static final int DRAIN_BATCH = 256;
+
+    private final SubscriberInvoker invoker;
+    private final ExecutorService executor;
+    private final PluginLogger logger;
+    private final int capacity;
+
+    private final Queue<SubscribeEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final LongAdder dropped = new LongAdder();
+
+    SubscriberMailbox(
+            SubscriberInvoker invoker,
+            ExecutorService executor,
+            PluginLogger logger,
+            int capacity
+    ) {
+        this.invoker = invoker;
+        this.executor = executor;
+        this.logger = logger;
+        this.capacity = capacity;
+    }
+
+    void offer(SubscribeEvent event) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            dropped.increment();
+
+            long total = dropped.sum();
+            if (total == 1 || total % 1000 == 0) {
+                logger.warn("Async subscriber %s is falling behind, %d events dropped so far", name(), total);
+            }
+            return;
+        }
+
+        queue.offer(event);
+        schedule();
+    }
+
+    SubscriberMailboxStats stats() {
+        return new SubscriberMailboxStats(
+                invoker.instance().getClass(),
+                invoker.method().getName(),
+                size.get(),
+                capacity,
+                dropped.sum()
+        );
+    }
+
+    private void schedule() {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+        }
+    }
+
+    private void drain() {
+        // a batch limit keeps one busy subscriber from starving the others, unless we are draining for shutdown
+        int processed = 0;
+
+        SubscribeEvent event;
+        while ((processed++ < DRAIN_BATCH || executor.isShutdown()) && (event = queue.poll()) != null) {
+            size.decrementAndGet();
+            try {
+                invoker.invoke(event);
+            } catch (RuntimeException e) {
+                logger.error(e, "Async subscriber %s failed on %s", name(), event.getClass().getSimpleName());
+            }
+        }
+
+        scheduled.set(false);
+        if (!queue.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private String name() {
+        return invoker.instance().getClass().getSimpleName() + "#" + invoker.method().getName();
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.imdmk.playtime.core.injector.subscriber;
+
+public record SubscriberMailboxStats(
+        Class<?> type,
+        String method,
+        int queued,
+        int capacity,
+        long dropped
+) {
+}
@@ -0,0 +1,8 @@
+package com.github.imdmk.playtime.core.injector.subscriber;
+
+public record SubscriberTiming(
+        Class<?> type,
+        String method,
+        long nanos
+) {
+}
@@ -0,0 +1,15 @@
+package com.github.imdmk.playtime.core.injector.subscriber;
+
+import com.github.imdmk.playtime.core.injector.subscriber.event.SubscribeEvent;
+import org.jetbrains.annotations.Nullable;
+
+record Subscription(SubscriberInvoker invoker, @Nullable SubscriberMailbox mailbox) {
+
+    void deliver(SubscribeEvent event) {
+        if (mailbox != null) {
+            mailbox.offer(event);
+        } else {
+            invoker.invoke(event);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.github.imdmk.playtime.core.injector.subscriber.event;
+
+public final class PlayTimeReloadEvent extends SubscribeEvent {
+}
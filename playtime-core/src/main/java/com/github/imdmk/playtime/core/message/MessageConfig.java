@@ -4,6 +4,7 @@ import com.eternalcode.multification.notice.Notice;
 import com.eternalcode.multification.notice.resolver.NoticeResolverDefaults;
 import com.eternalcode.multification.okaeri.MultificationSerdesPack;
 import com.github.imdmk.playtime.core.config.ConfigSection;
+import com.github.imdmk.playtime.core.feature.debug.message.ENDebugMessages;
 import com.github.imdmk.playtime.core.feature.playtime.message.ENPlayTimeMessages;
 import com.github.imdmk.playtime.core.feature.reload.message.ENReloadMessages;
 import com.github.imdmk.playtime.core.injector.annotations.ConfigFile;
@@ -87,6 +88,9 @@ public final class MessageConfig extends ConfigSection {
     @Comment({" ", "# Reload messages", " "})
     public ENReloadMessages reloadMessages = new ENReloadMessages();
 
+    @Comment({" ", "# Debug messages", " "})
+    public ENDebugMessages debugMessages = new ENDebugMessages();
+
     @Override
     public OkaeriSerdesPack serdesPack() {
         return registry -> registry.register(
@@ -0,0 +1,168 @@
+package com.github.imdmk.playtime.core.platform.adventure;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Component pre-parsed into literal segments and placeholder slots.
+ * Rendering fills the slots in one pass and reuses every subtree without placeholders.
+ */
+public final class AdventureTemplate {
+
+    private final Node root;
+    private final int slotCount;
+
+    private AdventureTemplate(Node root, int slotCount) {
+        this.root = root;
+        this.slotCount = slotCount;
+    }
+
+    public static AdventureTemplate compile(Component input, String... keys) {
+        // longest keys first to avoid substring overlap, same as AdventureFormatter
+        Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].isEmpty()) {
+                throw new IllegalArgumentException("Placeholder key cannot be empty");
+            }
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> keys[i].length()).reversed());
+
+        return new AdventureTemplate(compileNode(input, keys, order), keys.length);
+    }
+
+    public static List<AdventureTemplate> compile(List<Component> input, String... keys) {
+        List<AdventureTemplate> templates = new ArrayList<>(input.size());
+        for (Component component : input) {
+            templates.add(compile(component, keys));
+        }
+        return List.copyOf(templates);
+    }
+
+    public static List<Component> render(List<AdventureTemplate> templates, Component... values) {
+        List<Component> components = new ArrayList<>(templates.size());
+        for (AdventureTemplate template : templates) {
+            components.add(template.render(values));
+        }
+        return components;
+    }
+
+    public Component render(Component... values) {
+        if (values.length != slotCount) {
+            throw new IllegalArgumentException("Expected " + slotCount + " values, got " + values.length);
+        }
+
+        return root.render(values);
+    }
+
+    private static Node compileNode(Component component, String[] keys, Integer[] order) {
+        List<Component> children = component.children();
+        Node[] childNodes = new Node[children.size()];
+
+        boolean dynamic = false;
+        for (int i = 0; i < childNodes.length; i++) {
+            childNodes[i] = compileNode(children.get(i), keys, order);
+            dynamic |= childNodes[i].dynamic;
+        }
+
+        if (!(component instanceof TextComponent text)) {
+            return new Node(component, null, null, childNodes, dynamic);
+        }
+
+        String content = text.content();
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+
+        int literalStart = 0;
+        int i = 0;
+        while (i < content.length()) {
+            int slot = matchAt(content, i, keys, order);
+            if (slot < 0) {
+                i++;
+                continue;
+            }
+
+            literals.add(content.substring(literalStart, i));
+            slots.add(slot);
+
+            i += keys[slot].length();
+            literalStart = i;
+        }
+
+        if (slots.isEmpty()) {
+            return new Node(component, null, null, childNodes, dynamic);
+        }
+
+        literals.add(content.substring(literalStart));
+
+        return new Node(
+                component,
+                literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(),
+                childNodes,
+                true
+        );
+    }
+
+    private static int matchAt(String content, int index, String[] keys, Integer[] order) {
+        for (int slot : order) {
+            if (content.startsWith(keys[slot], index)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    // literals has one more element than slots: literal, slot, literal, ..., slot, literal
+    private record Node(
+            Component source,
+            @Nullable String[] literals,
+            int @Nullable [] slots,
+            Node[] children,
+            boolean dynamic
+    ) {
+
+        Component render(Component[] values) {
+            if (!dynamic) {
+                return source;
+            }
+
+            if (slots == null) {
+                return source.children(renderChildren(values));
+            }
+
+            TextComponent.Builder builder = Component.text()
+                    .content(literals[0])
+                    .style(source.style());
+
+            for (int i = 0; i < slots.length; i++) {
+                builder.append(values[slots[i]]);
+
+                String literal = literals[i + 1];
+                if (!literal.isEmpty()) {
+                    builder.append(Component.text(literal));
+                }
+            }
+
+            for (Node child : children) {
+                builder.append(child.render(values));
+            }
+
+            return builder.build();
+        }
+
+        private List<Component> renderChildren(Component[] values) {
+            List<Component> rendered = new ArrayList<>(children.length);
+            for (Node child : children) {
+                rendered.add(child.render(values));
+            }
+            return rendered;
+        }
+    }
+}
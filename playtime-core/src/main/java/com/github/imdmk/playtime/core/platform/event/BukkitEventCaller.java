@@ -21,6 +21,12 @@ final class BukkitEventCaller implements EventCaller {
 
     @Override
     public <E extends Event> E callEvent(E event) {
+        // bukkit rejects async events fired from the main thread
+        if (event.isAsynchronous() && server.isPrimaryThread()) {
+            scheduler.runAsync(() -> server.getPluginManager().callEvent(event));
+            return event;
+        }
+
         if (event.isAsynchronous() || server.isPrimaryThread()) {
             server.getPluginManager().callEvent(event);
             return event;
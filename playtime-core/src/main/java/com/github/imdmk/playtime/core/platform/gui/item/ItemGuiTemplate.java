@@ -0,0 +1,39 @@
+package com.github.imdmk.playtime.core.platform.gui.item;
+
+import com.github.imdmk.playtime.core.platform.adventure.AdventureTemplate;
+import net.kyori.adventure.text.Component;
+
+import java.util.List;
+
+public final class ItemGuiTemplate {
+
+    private final ItemGui item;
+    private final AdventureTemplate name;
+    private final List<AdventureTemplate> lore;
+
+    private ItemGuiTemplate(ItemGui item, AdventureTemplate name, List<AdventureTemplate> lore) {
+        this.item = item;
+        this.name = name;
+        this.lore = lore;
+    }
+
+    public static ItemGuiTemplate compile(ItemGui item, String... keys) {
+        return new ItemGuiTemplate(
+                item,
+                AdventureTemplate.compile(item.name(), keys),
+                AdventureTemplate.compile(item.lore(), keys)
+        );
+    }
+
+    public ItemGui item() {
+        return item;
+    }
+
+    public Component name(Component... values) {
+        return name.render(values);
+    }
+
+    public List<Component> lore(Component... values) {
+        return AdventureTemplate.render(lore, values);
+    }
+}
@@ -7,6 +7,7 @@ import dev.triumphteam.gui.guis.GuiItem;
 import org.bukkit.Material;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
 
 import java.util.function.Consumer;
 
@@ -33,6 +34,14 @@ public final class ItemGuiTransformer {
             GuiAction<InventoryClickEvent> onClick,
             Consumer<BaseItemBuilder<?>> builderEditor
     ) {
+        return toBuilder(item, builderEditor).asGuiItem(onClick);
+    }
+
+    public static ItemStack toItemStack(ItemGui item, Consumer<BaseItemBuilder<?>> builderEditor) {
+        return toBuilder(item, builderEditor).build();
+    }
+
+    private static BaseItemBuilder<?> toBuilder(ItemGui item, Consumer<BaseItemBuilder<?>> builderEditor) {
         final var material = item.material();
         final var builder = material == Material.PLAYER_HEAD ? ItemBuilder.skull() : ItemBuilder.from(material);
 
@@ -50,6 +59,6 @@ public final class ItemGuiTransformer {
         }
 
         builderEditor.accept(builder);
-        return builder.asGuiItem(onClick);
+        return builder;
     }
 }
@@ -4,6 +4,7 @@ import com.github.imdmk.playtime.core.platform.gui.item.ItemGui;
 import dev.triumphteam.gui.builder.item.BaseItemBuilder;
 import dev.triumphteam.gui.guis.BaseGui;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Contract;
 
 import java.util.function.Consumer;
@@ -79,4 +80,13 @@ public interface GuiRenderer {
                  RenderOptions options,
                  Consumer<InventoryClickEvent> onClick,
                  Consumer<BaseItemBuilder<?>> builderEditor);
+
+    // places a copy of an already rendered stack, permission checks still use the item definition
+    @Contract(mutates = "param1")
+    void addItem(BaseGui gui,
+                 ItemGui item,
+                 ItemStack prebuilt,
+                 RenderContext context,
+                 RenderOptions options,
+                 Consumer<InventoryClickEvent> onClick);
 }
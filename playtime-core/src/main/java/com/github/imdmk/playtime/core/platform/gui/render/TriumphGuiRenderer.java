@@ -9,9 +9,11 @@ import dev.triumphteam.gui.guis.GuiItem;
 import org.bukkit.entity.HumanEntity;
 import org.bukkit.event.Event;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Contract;
 
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 public final class TriumphGuiRenderer implements GuiRenderer {
 
@@ -64,12 +66,50 @@ public final class TriumphGuiRenderer implements GuiRenderer {
         }
     }
 
+    @Override
+    @Contract(mutates = "param1")
+    public void addItem(
+            BaseGui gui,
+            ItemGui item,
+            ItemStack prebuilt,
+            RenderContext context,
+            RenderOptions options,
+            Consumer<InventoryClickEvent> onClick
+    ) {
+        final GuiItem builtItem = createGuiItem(
+                item,
+                context,
+                options,
+                onClick,
+                clickHandler -> new GuiItem(prebuilt.clone(), clickHandler)
+        );
+        if (builtItem != null) {
+            gui.addItem(builtItem);
+        }
+    }
+
     private static GuiItem buildGuiItem(
             ItemGui item,
             RenderContext context,
             RenderOptions options,
             Consumer<InventoryClickEvent> onClick,
             Consumer<BaseItemBuilder<?>> builderEditor
+    ) {
+        return createGuiItem(
+                item,
+                context,
+                options,
+                onClick,
+                clickHandler -> ItemGuiTransformer.toGuiItem(item, clickHandler, builderEditor)
+        );
+    }
+
+    private static GuiItem createGuiItem(
+            ItemGui item,
+            RenderContext context,
+            RenderOptions options,
+            Consumer<InventoryClickEvent> onClick,
+            Function<GuiAction<InventoryClickEvent>, GuiItem> itemFactory
     ) {
         String requiredPerm = item.requiredPermission();
 
@@ -89,7 +129,7 @@ public final class TriumphGuiRenderer implements GuiRenderer {
             onClick.accept(event);
         };
 
-        return ItemGuiTransformer.toGuiItem(item, clickHandler, builderEditor);
+        return itemFactory.apply(clickHandler);
     }
 
     private static boolean hasPermission(String permission, RenderContext context, HumanEntity entity) {
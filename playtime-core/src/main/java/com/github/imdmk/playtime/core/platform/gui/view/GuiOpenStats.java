@@ -0,0 +1,11 @@
+package com.github.imdmk.playtime.core.platform.gui.view;
+
+public record GuiOpenStats(
+        String guiId,
+        long opens,
+        double averagePrepareMillis,
+        double averageSyncWaitMillis,
+        double averageSyncMillis,
+        double maxSyncMillis
+) {
+}
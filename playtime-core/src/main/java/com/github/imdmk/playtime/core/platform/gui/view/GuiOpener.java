@@ -3,15 +3,34 @@ package com.github.imdmk.playtime.core.platform.gui.view;
 import com.github.imdmk.playtime.core.injector.annotations.Service;
 import com.github.imdmk.playtime.core.platform.gui.GuiRegistry;
 import com.github.imdmk.playtime.core.platform.scheduler.TaskScheduler;
+import dev.triumphteam.gui.guis.BaseGui;
 import org.bukkit.entity.Player;
 import org.panda_lang.utilities.inject.annotations.Inject;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
 @Service
 public final class GuiOpener {
 
     private final GuiRegistry registry;
     private final TaskScheduler scheduler;
 
+    // sync stages of all opens requested within the same tick share one main thread task
+    private final Queue<Runnable> pendingSync = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    private final Map<String, StageTimings> timings = new ConcurrentHashMap<>();
+
     @Inject
     public GuiOpener(
             GuiRegistry registry,
@@ -21,21 +40,90 @@ public final class GuiOpener {
         this.scheduler = scheduler;
     }
 
-    public void open(
+    public CompletableFuture<Void> open(
             Class<? extends OpenableGui<Void>> type,
             Player viewer
     ) {
-        OpenableGui<Void> gui = require(type);
-        gui.open(viewer, scheduler, null);
+        return open(type, viewer, null);
     }
 
-    public <T> void open(
+    public <T> CompletableFuture<Void> open(
             Class<? extends OpenableGui<T>> type,
             Player viewer,
             T parameter
     ) {
         OpenableGui<T> gui = require(type);
+        if (gui instanceof StagedGui<T, ?> staged) {
+            return openStaged(staged, viewer, parameter);
+        }
+
         gui.open(viewer, scheduler, parameter);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public List<GuiOpenStats> stats() {
+        List<GuiOpenStats> stats = new ArrayList<>(timings.size());
+        timings.forEach((id, stageTimings) -> stats.add(stageTimings.snapshot(id)));
+        return stats;
+    }
+
+    private <T, D> CompletableFuture<Void> openStaged(
+            StagedGui<T, D> gui,
+            Player viewer,
+            T parameter
+    ) {
+        StageTimings stageTimings = timings.computeIfAbsent(gui.getId(), id -> new StageTimings());
+        CompletableFuture<Void> opened = new CompletableFuture<>();
+
+        scheduler.runAsync(() -> {
+            long prepareStart = System.nanoTime();
+
+            D prepared;
+            try {
+                prepared = gui.prepare(viewer, parameter);
+            } catch (RuntimeException e) {
+                opened.completeExceptionally(e);
+                return;
+            }
+
+            long preparedAt = System.nanoTime();
+
+            runBatchedSync(() -> {
+                long syncStart = System.nanoTime();
+
+                try {
+                    if (viewer.isOnline()) {
+                        BaseGui baseGui = gui.createGui(viewer, parameter);
+                        gui.placeItems(baseGui, viewer, prepared);
+                        baseGui.open(viewer);
+                    }
+
+                    opened.complete(null);
+                } catch (RuntimeException e) {
+                    opened.completeExceptionally(e);
+                }
+
+                stageTimings.record(preparedAt - prepareStart, syncStart - preparedAt, System.nanoTime() - syncStart);
+            });
+        });
+
+        return opened;
+    }
+
+    private void runBatchedSync(Runnable task) {
+        pendingSync.add(task);
+        if (drainScheduled.compareAndSet(false, true)) {
+            scheduler.runSync(this::drainSync);
+        }
+    }
+
+    private void drainSync() {
+        drainScheduled.set(false);
+
+        Runnable task;
+        while ((task = pendingSync.poll()) != null) {
+            task.run();
+        }
     }
 
     private <P> OpenableGui<P> require(Class<? extends OpenableGui<P>> type) {
@@ -49,4 +137,40 @@ public final class GuiOpener {
         return gui;
     }
 
+    private static final class StageTimings {
+
+        private final LongAdder opens = new LongAdder();
+        private final LongAdder prepareNanos = new LongAdder();
+        private final LongAdder syncWaitNanos = new LongAdder();
+        private final LongAdder syncNanos = new LongAdder();
+        private final LongAccumulator maxSyncNanos = new LongAccumulator(Math::max, 0L);
+
+        void record(long prepare, long syncWait, long sync) {
+            opens.increment();
+            prepareNanos.add(prepare);
+            syncWaitNanos.add(syncWait);
+            syncNanos.add(sync);
+            maxSyncNanos.accumulate(sync);
+        }
+
+        GuiOpenStats snapshot(String guiId) {
+            long count = opens.sum();
+            return new GuiOpenStats(
+                    guiId,
+                    count,
+                    averageMillis(prepareNanos, count),
+                    averageMillis(syncWaitNanos, count),
+                    averageMillis(syncNanos, count),
+                    toMillis(maxSyncNanos.get())
+            );
+        }
+
+        private static double averageMillis(LongAdder nanos, long count) {
+            return count == 0 ? 0.0 : toMillis(nanos.sum()) / count;
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.github.imdmk.playtime.core.platform.gui.view;
+
+import com.github.imdmk.playtime.core.platform.scheduler.TaskScheduler;
+import dev.triumphteam.gui.guis.BaseGui;
+import org.bukkit.entity.Player;
+
+/**
+ * GUI opened in two stages: {@link #prepare} renders items off the main thread,
+ * then {@link #createGui} and {@link #placeItems} run on the main thread right before opening.
+ */
+public interface StagedGui<P, D> extends OpenableGui<P> {
+
+    @Override
+    default void open(
+            Player viewer,
+            TaskScheduler scheduler,
+            P parameter
+    ) {
+        D prepared = prepare(viewer, parameter);
+        scheduler.runSyncIfNeeded(() -> {
+            BaseGui gui = createGui(viewer, parameter);
+            placeItems(gui, viewer, prepared);
+            gui.open(viewer);
+        });
+    }
+
+    // must not touch inventories or world state
+    D prepare(Player viewer, P parameter);
+
+    BaseGui createGui(Player viewer, P parameter);
+
+    void placeItems(
+            BaseGui gui,
+            Player viewer,
+            D prepared
+    );
+}
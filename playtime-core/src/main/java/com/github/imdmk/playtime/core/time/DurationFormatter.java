@@ -4,11 +4,17 @@ import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 final class DurationFormatter {
 
+    private static final int MAX_RETAINED_CAPACITY = 1024;
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
     private final Token[] tokens;
+    private final long granularityMillis;
+    private final boolean showsMillis;
     private final String separator;
     private final String lastSeparator;
     private final String zero;
@@ -20,6 +26,8 @@ final class DurationFormatter {
             @NotNull String zero
     ) {
         this.tokens = parsePattern(pattern);
+        this.granularityMillis = granularityMillis(tokens);
+        this.showsMillis = Arrays.stream(tokens).anyMatch(token -> token.unit == DurationUnit.MILLIS);
         this.separator = separator;
         this.lastSeparator = lastSeparator;
         this.zero = zero;
@@ -30,23 +38,37 @@ final class DurationFormatter {
             return zero;
         }
 
-        int nonZero = countNonZero(duration);
-        if (nonZero == 0) {
+        return format(toMillisSaturated(duration));
+    }
+
+    String format(long millis) {
+        if (millis <= 0) {
             return zero;
         }
 
-        StringBuilder result = new StringBuilder(tokens.length * 16);
-        int written = 0;
+        // scanning backwards finds the last written unit without a second formatting pass
+        int last = tokens.length - 1;
+        while (last >= 0 && tokens[last].unit.extract(millis) <= 0) {
+            last--;
+        }
 
-        for (Token token : tokens) {
-            long value = token.unit.extract(duration);
+        if (last < 0) {
+            return zero;
+        }
+
+        StringBuilder result = BUILDER.get();
+        result.setLength(0);
+
+        for (int i = 0; i <= last; i++) {
+            Token token = tokens[i];
+            long value = token.unit.extract(millis);
 
             if (value <= 0) {
                 continue;
             }
 
-            if (written++ > 0) {
-                result.append(written == nonZero ? lastSeparator : separator);
+            if (result.length() > 0) {
+                result.append(i == last ? lastSeparator : separator);
             }
 
             result.append(value);
@@ -58,19 +80,46 @@ final class DurationFormatter {
             result.append(value == 1 ? token.singular : token.plural);
         }
 
-        return result.toString();
+        String formatted = result.toString();
+        if (result.capacity() > MAX_RETAINED_CAPACITY) {
+            BUILDER.remove();
+        }
+
+        return formatted;
+    }
+
+    // how many more millis of playtime format(millis) keeps returning the same text
+    long stableFor(long millis) {
+        if (millis < 0) {
+            return 1;
+        }
+
+        // milliseconds are only shown below one second
+        if (showsMillis && millis < DurationUnit.SECONDS.millis()) {
+            return 1;
+        }
+
+        return granularityMillis - millis % granularityMillis;
     }
 
-    private int countNonZero(Duration duration) {
-        int count = 0;
+    private static long granularityMillis(Token[] tokens) {
+        long granularity = Long.MAX_VALUE;
 
         for (Token token : tokens) {
-            if (token.unit.extract(duration) > 0) {
-                count++;
+            if (token.unit != DurationUnit.MILLIS) {
+                granularity = Math.min(granularity, token.unit.millis());
             }
         }
 
-        return count;
+        return granularity == Long.MAX_VALUE ? DurationUnit.SECONDS.millis() : granularity;
+    }
+
+    private static long toMillisSaturated(Duration duration) {
+        try {
+            return duration.toMillis();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
     }
 
     private static Token[] parsePattern(String pattern) {
@@ -2,14 +2,22 @@ package com.github.imdmk.playtime.core.time;
 
 import com.github.imdmk.playtime.core.injector.ComponentPriority;
 import com.github.imdmk.playtime.core.injector.annotations.Service;
+import com.github.imdmk.playtime.core.injector.subscriber.Subscribe;
+import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeShutdownEvent;
 import org.panda_lang.utilities.inject.annotations.Inject;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 @Service(priority = ComponentPriority.LOWEST)
 public final class DurationService {
 
     private final DurationFormatter formatter;
+    private final Map<UUID, Formatted> formattedByUuid = new ConcurrentHashMap<>();
 
     @Inject
     DurationService(DurationFormatConfig config) {
@@ -24,4 +32,41 @@ public final class DurationService {
     public String format(Duration duration) {
         return formatter.format(duration);
     }
+
+    public String format(long millis) {
+        return formatter.format(millis);
+    }
+
+    // playtime grows at most as fast as the wall clock, so the text holds until the pattern's next unit boundary
+    public String format(UUID uuid, LongSupplier millisSupplier) {
+        long now = System.nanoTime();
+
+        Formatted cached = formattedByUuid.get(uuid);
+        if (cached != null && now - cached.expiresAtNanos() < 0) {
+            return cached.text();
+        }
+
+        long millis = millisSupplier.getAsLong();
+        String text = formatter.format(millis);
+
+        long stableNanos = TimeUnit.MILLISECONDS.toNanos(formatter.stableFor(millis));
+        formattedByUuid.put(uuid, new Formatted(text, now + stableNanos));
+        return text;
+    }
+
+    public void invalidate(UUID uuid) {
+        formattedByUuid.remove(uuid);
+    }
+
+    public void invalidateAll() {
+        formattedByUuid.clear();
+    }
+
+    @Subscribe(event = PlayTimeShutdownEvent.class)
+    private void shutdown() {
+        formattedByUuid.clear();
+    }
+
+    private record Formatted(String text, long expiresAtNanos) {
+    }
 }
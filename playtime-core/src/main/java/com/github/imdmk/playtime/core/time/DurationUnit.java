@@ -1,46 +1,43 @@
 package com.github.imdmk.playtime.core.time;
 
-import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 enum DurationUnit {
 
-    DAYS("d") {
+    DAYS("d", 86_400_000L) {
         @Override
-        long extract(Duration duration) {
-            return duration.toDaysPart();
+        long extract(long millis) {
+            return millis / 86_400_000L;
         }
     },
 
-    HOURS("h") {
+    HOURS("h", 3_600_000L) {
         @Override
-        long extract(Duration duration) {
-            return duration.toHoursPart();
+        long extract(long millis) {
+            return millis / 3_600_000L % 24;
         }
     },
 
-    MINUTES("m") {
+    MINUTES("m", 60_000L) {
         @Override
-        long extract(Duration duration) {
-            return duration.toMinutesPart();
+        long extract(long millis) {
+            return millis / 60_000L % 60;
         }
     },
 
-    SECONDS("s") {
+    SECONDS("s", 1_000L) {
         @Override
-        long extract(Duration duration) {
-            return duration.toSecondsPart();
+        long extract(long millis) {
+            return millis / 1_000L % 60;
         }
     },
 
-    MILLIS("ms") {
+    MILLIS("ms", 1L) {
         @Override
-        long extract(Duration duration) {
-            return duration.getSeconds() == 0
-                    ? duration.toMillisPart()
-                    : 0;
+        long extract(long millis) {
+            return millis < 1_000L ? millis : 0;
         }
     };
 
@@ -48,12 +45,19 @@ enum DurationUnit {
             .collect(Collectors.toUnmodifiableMap(unit -> unit.symbol, unit -> unit));
 
     private final String symbol;
+    private final long millis;
 
-    DurationUnit(String symbol) {
+    DurationUnit(String symbol, long millis) {
         this.symbol = symbol;
+        this.millis = millis;
     }
 
-    abstract long extract(Duration duration);
+    long millis() {
+        return millis;
+    }
+
+    // millis is never negative
+    abstract long extract(long millis);
 
     static DurationUnit fromSymbol(String symbol) {
         DurationUnit unit = BY_SYMBOL.get(symbol);
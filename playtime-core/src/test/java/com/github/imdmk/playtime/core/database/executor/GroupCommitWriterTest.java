@@ -0,0 +1,160 @@
+package com.github.imdmk.playtime.core.database.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GroupCommitWriterTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final FakeTransactions transactions = new FakeTransactions();
+    private final GroupCommitWriter writer = new GroupCommitWriter(transactions, 64, wait -> {});
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown(WAIT);
+    }
+
+    @Nested
+    @DisplayName("Groups")
+    class GroupTests {
+
+        @Test
+        void shouldRetryPartlyFailingGroupOneWriteAtATime() throws InterruptedException {
+            transactions.holdFirst = true;
+            CompletableFuture<String> first = submit(write("first"));
+            assertThat(transactions.entered.await(WAIT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+            CompletableFuture<String> good = submit(write("good"));
+            CompletableFuture<String> bad = submit(() -> {
+                throw new IllegalStateException("bad write");
+            });
+            CompletableFuture<String> other = submit(write("other"));
+            transactions.released.countDown();
+
+            assertThat(first).succeedsWithin(WAIT).isEqualTo("first");
+            assertThat(good).succeedsWithin(WAIT).isEqualTo("good");
+            assertThat(other).succeedsWithin(WAIT).isEqualTo("other");
+            assertThat(bad).failsWithin(WAIT)
+                    .withThrowableOfType(ExecutionException.class)
+                    .withCauseInstanceOf(IllegalStateException.class);
+
+            writer.shutdown(WAIT);
+            assertThat(transactions.committed).containsExactly("first", "good", "other");
+            assertThat(writer.retriedGroups()).isEqualTo(1);
+            assertThat(writer.commits()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Timeouts")
+    class TimeoutTests {
+
+        @Test
+        void shouldRollBackGroupWhenWriteTimesOutMidTransaction() throws InterruptedException {
+            transactions.holdFirst = true;
+            submit(write("first"));
+            assertThat(transactions.entered.await(WAIT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+            CompletableFuture<String> before = submit(write("before"));
+
+            CompletableFuture<String> late = new CompletableFuture<>();
+            QueryContext lateContext = new QueryContext(0);
+            writer.submit(() -> {
+                transactions.write("late");
+                timeOut(late, lateContext);
+                return "late";
+            }, late, lateContext, System.nanoTime());
+
+            CompletableFuture<String> after = submit(write("after"));
+            transactions.released.countDown();
+
+            assertThat(before).succeedsWithin(WAIT).isEqualTo("before");
+            assertThat(after).succeedsWithin(WAIT).isEqualTo("after");
+            assertThat(late).failsWithin(WAIT)
+                    .withThrowableOfType(ExecutionException.class)
+                    .withCauseInstanceOf(TimeoutException.class);
+
+            writer.shutdown(WAIT);
+            assertThat(transactions.committed).containsExactly("first", "before", "after");
+        }
+
+        @Test
+        void shouldNotTimeOutWriteThatIsCommitting() {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            QueryContext context = new QueryContext(0);
+            AtomicBoolean timedOut = new AtomicBoolean(true);
+            transactions.beforeCommit = () -> timedOut.set(timeOut(future, context));
+
+            writer.submit(write("committing"), future, context, System.nanoTime());
+
+            assertThat(future).succeedsWithin(WAIT).isEqualTo("committing");
+            assertThat(timedOut).isFalse();
+            assertThat(transactions.committed).containsExactly("committing");
+        }
+    }
+
+    private CompletableFuture<String> submit(Supplier<String> supplier) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        writer.submit(supplier, future, new QueryContext(0), System.nanoTime());
+        return future;
+    }
+
+    private Supplier<String> write(String value) {
+        return () -> {
+            transactions.write(value);
+            return value;
+        };
+    }
+
+    // what DatabaseExecutor does once a write's timeout fires
+    private static boolean timeOut(CompletableFuture<String> future, QueryContext context) {
+        return context.cancel() && future.completeExceptionally(new TimeoutException("timed out"));
+    }
+
+    // keeps the writes of a transaction only when its work returns, like a commit and rollback would
+    private static final class FakeTransactions implements TransactionRunner {
+
+        private final List<String> committed = new CopyOnWriteArrayList<>();
+        private final List<String> current = new ArrayList<>();
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        private volatile boolean holdFirst;
+        private volatile Runnable beforeCommit = () -> {};
+
+        @Override
+        public void inTransaction(Runnable work) throws Exception {
+            if (holdFirst && entered.getCount() > 0) {
+                entered.countDown();
+                released.await();
+            }
+
+            current.clear();
+            work.run();
+            beforeCommit.run();
+            committed.addAll(current);
+        }
+
+        private void write(String value) {
+            current.add(value);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.imdmk.playtime.core.database.migration;
+
+import com.github.imdmk.playtime.core.database.repository.jdbc.SqlDialect;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MigrationsTest {
+
+    private final List<Migration> migrations = Migrations.all();
+
+    @Nested
+    @DisplayName("Ordering")
+    class OrderingTests {
+
+        @Test
+        void shouldStartAtVersionOne() {
+            assertThat(migrations).first().extracting(Migration::version).isEqualTo(1);
+        }
+
+        @Test
+        void shouldHaveConsecutiveVersions() {
+            for (int i = 0; i < migrations.size(); i++) {
+                assertThat(migrations.get(i).version()).isEqualTo(i + 1);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Scripts")
+    class ScriptTests {
+
+        @ParameterizedTest
+        @EnumSource(SqlDialect.class)
+        void shouldRenderStatementsForEveryDialect(SqlDialect dialect) {
+            for (Migration migration : migrations) {
+                assertThat(migration.statements(dialect)).isNotEmpty().doesNotContainNull();
+            }
+        }
+
+        @ParameterizedTest
+        @EnumSource(SqlDialect.class)
+        void shouldComputeDistinctChecksums(SqlDialect dialect) {
+            assertThat(migrations.stream().map(migration -> migration.checksum(dialect)).toList())
+                    .doesNotHaveDuplicates();
+        }
+
+        @Test
+        void shouldCreateDescendingPlaytimeIndex() {
+            assertThat(migrations.get(1).statements(SqlDialect.POSTGRESQL))
+                    .containsExactly("CREATE INDEX IF NOT EXISTS \"advanced_playtime_users_playtime_idx\""
+                            + " ON \"advanced_playtime_users\" (\"playtimeMillis\" DESC)");
+        }
+    }
+}
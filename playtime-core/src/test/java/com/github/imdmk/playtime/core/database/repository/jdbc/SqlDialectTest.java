@@ -0,0 +1,69 @@
+package com.github.imdmk.playtime.core.database.repository.jdbc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SqlDialectTest {
+
+    @Nested
+    @DisplayName("Server version")
+    class ServerVersionTests {
+
+        @ParameterizedTest
+        @CsvSource({
+                "8.0.19, true",
+                "8.0.35-0ubuntu0.22.04.1, true",
+                "8.4.0, true",
+                "9.1.0, true",
+                "8.0.18, false",
+                "5.7.44-log, false",
+                "5.5.5-10.11.6-MariaDB, false",
+                "unknown, false"
+        })
+        void shouldDetectRowAliasSupport(String version, boolean expected) {
+            assertThat(SqlDialect.supportsRowAlias(version)).isEqualTo(expected);
+        }
+
+        @Test
+        void shouldFallBackToValuesUpsertOnOldMySql() throws SQLException {
+            DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+            when(metaData.getDatabaseProductVersion()).thenReturn("5.7.44");
+
+            SqlDialect dialect = SqlDialect.MYSQL.forServer(metaData);
+
+            assertThat(dialect.upsert("users", "uuid", List.of("name")))
+                    .isEqualTo("INSERT INTO `users` (`uuid`, `name`) VALUES (?, ?)"
+                            + " ON DUPLICATE KEY UPDATE `name` = VALUES(`name`)");
+        }
+
+        @Test
+        void shouldKeepRowAliasUpsertOnCurrentMySql() throws SQLException {
+            DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+            when(metaData.getDatabaseProductVersion()).thenReturn("8.0.36");
+
+            SqlDialect dialect = SqlDialect.MYSQL.forServer(metaData);
+
+            assertThat(dialect.upsert("users", "uuid", List.of("name")))
+                    .isEqualTo("INSERT INTO `users` (`uuid`, `name`) VALUES (?, ?)"
+                            + " AS new ON DUPLICATE KEY UPDATE `name` = new.`name`");
+        }
+
+        @Test
+        void shouldIgnoreServerVersionForOtherEngines() throws SQLException {
+            DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+
+            assertThat(SqlDialect.POSTGRESQL.forServer(metaData)).isSameAs(SqlDialect.POSTGRESQL);
+            verifyNoInteractions(metaData);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.github.imdmk.playtime.core.feature.playtime;
+
+import com.github.imdmk.playtime.api.PlayTime;
+import com.github.imdmk.playtime.core.feature.playtime.repository.PlayTimeUserRepository;
+import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
+import com.github.imdmk.playtime.core.platform.scheduler.TaskScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PlayTimeUserSaveQueueTest {
+
+    private final StoredUsers stored = new StoredUsers();
+    private final PlayTimeUserRepository repository = mock(PlayTimeUserRepository.class);
+    private final TaskScheduler scheduler = mock(TaskScheduler.class);
+
+    private PlayTimeUserSaveQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        when(scheduler.runAsync(any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        });
+        when(repository.saveAll(any())).thenAnswer(invocation -> stored.saveAll(invocation.getArgument(0)));
+        when(repository.resetAllPlayTimes()).thenAnswer(invocation -> stored.resetAll());
+
+        queue = new PlayTimeUserSaveQueue(mock(PluginLogger.class), scheduler, new PlayTimeUserConfig(), repository);
+    }
+
+    @Nested
+    @DisplayName("Flush")
+    class FlushTests {
+
+        @Test
+        void shouldKeepCallerFutureUntilRetrySucceeds() {
+            UUID uuid = UUID.randomUUID();
+            when(repository.saveAll(any()))
+                    .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")))
+                    .thenAnswer(invocation -> stored.saveAll(invocation.getArgument(0)));
+
+            CompletableFuture<PlayTimeUser> save = queue.enqueue(new PlayTimeUser(uuid, "player", PlayTime.ofMillis(5_000L)));
+
+            queue.flush();
+            assertThat(save).isNotDone();
+            assertThat(queue.pending(uuid)).isNotNull();
+
+            queue.flush();
+            assertThat(save).isCompleted();
+            assertThat(stored.millis).containsEntry(uuid, 5_000L);
+        }
+
+        @Test
+        void shouldKeepEntryVisibleWhileWriting() {
+            UUID uuid = UUID.randomUUID();
+            List<PlayTimeUser> seenDuringWrite = new ArrayList<>();
+            when(repository.saveAll(any())).thenAnswer(invocation -> {
+                seenDuringWrite.add(queue.pending(uuid));
+                return stored.saveAll(invocation.getArgument(0));
+            });
+
+            PlayTimeUser user = new PlayTimeUser(uuid, "player", PlayTime.ofMillis(5_000L));
+            queue.enqueue(user);
+            queue.flush();
+
+            assertThat(seenDuringWrite).containsExactly(user);
+            assertThat(queue.pending(uuid)).isNull();
+        }
+
+        @Test
+        void shouldKeepNewerSaveQueuedDuringWrite() {
+            UUID uuid = UUID.randomUUID();
+            PlayTimeUser user = new PlayTimeUser(uuid, "player", PlayTime.ofMillis(1_000L));
+            when(repository.saveAll(any())).thenAnswer(invocation -> {
+                CompletableFuture<Void> written = stored.saveAll(invocation.getArgument(0));
+                user.setPlayTime(PlayTime.ofMillis(2_000L));
+                queue.enqueue(user);
+                return written;
+            }).thenAnswer(invocation -> stored.saveAll(invocation.getArgument(0)));
+
+            CompletableFuture<PlayTimeUser> save = queue.enqueue(user);
+            queue.flush();
+
+            assertThat(save).isNotDone();
+            assertThat(queue.pending(uuid)).isSameAs(user);
+
+            queue.flush();
+            assertThat(save).isCompleted();
+            assertThat(stored.millis).containsEntry(uuid, 2_000L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reset all")
+    class ResetAllTests {
+
+        @Test
+        void shouldNotWriteQueuedSaveOverReset() {
+            UUID uuid = UUID.randomUUID();
+            stored.millis.put(uuid, 1_000L);
+
+            PlayTimeUser user = new PlayTimeUser(uuid, "player", PlayTime.ofMillis(5_000L));
+            CompletableFuture<PlayTimeUser> save = queue.enqueue(user);
+
+            queue.resetAll(() -> {}).join();
+            queue.flush();
+
+            assertThat(stored.millis).containsEntry(uuid, 0L);
+            assertThat(user.getPlayTime()).isEqualTo(PlayTime.ZERO);
+            assertThat(queue.pending(uuid)).isNull();
+            assertThat(save).isCompleted();
+        }
+
+        @Test
+        void shouldKeepQueuedSaveWhenResetFails() {
+            UUID uuid = UUID.randomUUID();
+            when(repository.resetAllPlayTimes()).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")));
+
+            PlayTimeUser user = new PlayTimeUser(uuid, "player", PlayTime.ofMillis(5_000L));
+            queue.enqueue(user);
+
+            assertThatThrownBy(() -> queue.resetAll(() -> {}).join())
+                    .hasCauseInstanceOf(IllegalStateException.class);
+
+            queue.flush();
+
+            assertThat(stored.millis).containsEntry(uuid, 5_000L);
+        }
+
+        @Test
+        void shouldWriteSavesQueuedAfterReset() {
+            UUID uuid = UUID.randomUUID();
+
+            queue.resetAll(() -> {}).join();
+            queue.enqueue(new PlayTimeUser(uuid, "player", PlayTime.ofMillis(2_000L)));
+            queue.flush();
+
+            assertThat(stored.millis).containsEntry(uuid, 2_000L);
+        }
+    }
+
+    private static final class StoredUsers {
+
+        private final Map<UUID, Long> millis = new ConcurrentHashMap<>();
+
+        private CompletableFuture<Void> saveAll(Collection<PlayTimeUser> users) {
+            List.copyOf(users).forEach(user -> millis.put(user.getUuid(), user.getPlayTime().millis()));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        private CompletableFuture<Void> resetAll() {
+            millis.replaceAll((uuid, value) -> 0L);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.github.imdmk.playtime.core.feature.playtime.top;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RankTreeTest {
+
+    @Nested
+    @DisplayName("Ordering")
+    class OrderingTests {
+
+        @Test
+        void shouldReturnTopByPlayTimeDescending() {
+            RankTree tree = new RankTree();
+            UUID a = UUID.randomUUID();
+            UUID b = UUID.randomUUID();
+            UUID c = UUID.randomUUID();
+
+            tree.put(a, "a", 100);
+            tree.put(b, "b", 300);
+            tree.put(c, "c", 200);
+
+            assertThat(tree.top(10))
+                    .extracting(RankTree.Entry::name)
+                    .containsExactly("b", "c", "a");
+        }
+
+        @Test
+        void shouldLimitTop() {
+            RankTree tree = new RankTree();
+            for (int i = 0; i < 20; i++) {
+                tree.put(UUID.randomUUID(), "p" + i, i);
+            }
+
+            assertThat(tree.top(5))
+                    .extracting(RankTree.Entry::millis)
+                    .containsExactly(19L, 18L, 17L, 16L, 15L);
+        }
+
+        @Test
+        void shouldMatchSortedOrderAfterRandomUpdates() {
+            RankTree tree = new RankTree();
+            Random random = new Random(42);
+
+            List<UUID> uuids = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                uuids.add(UUID.randomUUID());
+            }
+
+            for (int i = 0; i < 5000; i++) {
+                UUID uuid = uuids.get(random.nextInt(uuids.size()));
+                tree.put(uuid, uuid.toString(), random.nextInt(1000));
+            }
+
+            List<RankTree.Entry> expected = uuids.stream()
+                    .map(tree::get)
+                    .sorted(Comparator.comparingLong(RankTree.Entry::millis).reversed()
+                            .thenComparing(RankTree.Entry::uuid))
+                    .toList();
+
+            assertThat(tree.size()).isEqualTo(500);
+            assertThat(tree.top(500)).isEqualTo(expected);
+
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(tree.rank(expected.get(i).uuid())).isEqualTo(i + 1);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Rank")
+    class RankTests {
+
+        @Test
+        void shouldReturnOneBasedPosition() {
+            RankTree tree = new RankTree();
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            UUID third = UUID.randomUUID();
+
+            tree.put(third, "third", 10);
+            tree.put(first, "first", 30);
+            tree.put(second, "second", 20);
+
+            assertThat(tree.rank(first)).isEqualTo(1);
+            assertThat(tree.rank(second)).isEqualTo(2);
+            assertThat(tree.rank(third)).isEqualTo(3);
+        }
+
+        @Test
+        void shouldReturnZeroForUnknownUuid() {
+            RankTree tree = new RankTree();
+            tree.put(UUID.randomUUID(), "a", 10);
+
+            assertThat(tree.rank(UUID.randomUUID())).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Updates")
+    class UpdateTests {
+
+        @Test
+        void shouldMoveEntryOnUpdate() {
+            RankTree tree = new RankTree();
+            UUID a = UUID.randomUUID();
+            UUID b = UUID.randomUUID();
+
+            tree.put(a, "a", 100);
+            tree.put(b, "b", 200);
+            tree.put(a, "a", 300);
+
+            assertThat(tree.size()).isEqualTo(2);
+            assertThat(tree.top(1))
+                    .extracting(RankTree.Entry::uuid)
+                    .containsExactly(a);
+        }
+
+        @Test
+        void shouldNotOverrideExistingEntryWithPutIfAbsent() {
+            RankTree tree = new RankTree();
+            UUID a = UUID.randomUUID();
+
+            tree.put(a, "a", 500);
+
+            assertThat(tree.putIfAbsent(a, "a", 100)).isFalse();
+            assertThat(tree.get(a).millis()).isEqualTo(500);
+        }
+
+        @Test
+        void shouldReportWhetherPutChangedTheTree() {
+            RankTree tree = new RankTree();
+            UUID a = UUID.randomUUID();
+
+            assertThat(tree.put(a, "a", 100)).isTrue();
+            assertThat(tree.put(a, "a", 100)).isFalse();
+            assertThat(tree.put(a, "renamed", 100)).isTrue();
+            assertThat(tree.put(a, "renamed", 200)).isTrue();
+        }
+
+        @Test
+        void shouldRemoveEntry() {
+            RankTree tree = new RankTree();
+            UUID a = UUID.randomUUID();
+
+            tree.put(a, "a", 100);
+            tree.remove(a);
+
+            assertThat(tree.size()).isZero();
+            assertThat(tree.top(10)).isEmpty();
+        }
+
+        @Test
+        void shouldResetAllToZero() {
+            RankTree tree = new RankTree();
+            tree.put(UUID.randomUUID(), "a", 100);
+            tree.put(UUID.randomUUID(), "b", 200);
+
+            tree.resetAll();
+
+            assertThat(tree.top(10))
+                    .extracting(RankTree.Entry::millis)
+                    .containsOnly(0L);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.github.imdmk.playtime.core.injector;
+
+import com.github.imdmk.playtime.core.injector.annotations.Service;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ComponentGraphTest {
+
+    private final ComponentGraph graph = new ComponentGraph();
+
+    @Nested
+    @DisplayName("Layers")
+    class LayerTests {
+
+        @Test
+        void shouldPlaceIndependentComponentsInFirstLayer() {
+            List<Component<?>> components = components(Config.class, Database.class, Gui.class);
+
+            List<List<Component<?>>> layers = graph.layers(components, dependencies(Map.of()));
+
+            assertThat(layers).hasSize(1);
+            assertThat(types(layers.get(0))).containsExactly(Config.class, Database.class, Gui.class);
+        }
+
+        @Test
+        void shouldPlaceComponentAfterItsDependencies() {
+            List<Component<?>> components = components(Config.class, Database.class, Repository.class, Gui.class);
+
+            List<List<Component<?>>> layers = graph.layers(components, dependencies(Map.of(
+                    Database.class, List.of(Config.class),
+                    Repository.class, List.of(Storage.class)
+            )));
+
+            assertThat(layers).hasSize(3);
+            assertThat(types(layers.get(0))).containsExactly(Config.class, Gui.class);
+            assertThat(types(layers.get(1))).containsExactly(Database.class);
+            assertThat(types(layers.get(2))).containsExactly(Repository.class);
+        }
+
+        @Test
+        void shouldTreatPublicFieldTypesAsProvided() {
+            List<Component<?>> components = components(Config.class, Gui.class);
+
+            List<List<Component<?>>> layers = graph.layers(components, dependencies(Map.of(
+                    Gui.class, List.of(Section.class)
+            )));
+
+            assertThat(layers).hasSize(2);
+            assertThat(types(layers.get(1))).containsExactly(Gui.class);
+        }
+
+        @Test
+        void shouldIgnoreDependenciesOutsideComponents() {
+            List<Component<?>> components = components(Gui.class);
+
+            List<List<Component<?>>> layers = graph.layers(components, dependencies(Map.of(
+                    Gui.class, List.of(String.class, Gui.class)
+            )));
+
+            assertThat(layers).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Priorities")
+    class PriorityTests {
+
+        @Test
+        void shouldPlaceHigherPriorityAfterLowerPriority() {
+            List<Component<?>> components = List.of(
+                    component(Config.class, ComponentPriority.LOWEST),
+                    component(Database.class, ComponentPriority.NORMAL),
+                    component(Gui.class, ComponentPriority.HIGHEST)
+            );
+
+            List<List<Component<?>>> layers = graph.layers(components, dependencies(Map.of()));
+
+            assertThat(layers).hasSize(3);
+            assertThat(types(layers.get(0))).containsExactly(Config.class);
+            assertThat(types(layers.get(1))).containsExactly(Database.class);
+            assertThat(types(layers.get(2))).containsExactly(Gui.class);
+        }
+
+        @Test
+        void shouldLayerDependenciesInsidePriorityBand() {
+            List<Component<?>> components = List.of(
+                    component(Config.class, ComponentPriority.LOWEST),
+                    component(Database.class, ComponentPriority.NORMAL),
+                    component(Repository.class, ComponentPriority.NORMAL),
+                    component(Gui.class, ComponentPriority.NORMAL)
+            );
+
+            List<List<Component<?>>> layers = graph.layers(components, dependencies(Map.of(
+                    Repository.class, List.of(Storage.class)
+            )));
+
+            assertThat(layers).hasSize(3);
+            assertThat(types(layers.get(1))).containsExactly(Database.class, Gui.class);
+            assertThat(types(layers.get(2))).containsExactly(Repository.class);
+        }
+
+        @Test
+        void shouldRejectDependencyOnHigherPriority() {
+            List<Component<?>> components = List.of(
+                    component(Repository.class, ComponentPriority.LOW),
+                    component(Database.class, ComponentPriority.HIGH)
+            );
+
+            assertThatThrownBy(() -> graph.layers(components, dependencies(Map.of(
+                    Repository.class, List.of(Storage.class)
+            ))))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Repository -> Database -> Repository");
+        }
+    }
+
+    @Nested
+    @DisplayName("Cycles")
+    class CycleTests {
+
+        @Test
+        void shouldRejectCircularDependencies() {
+            List<Component<?>> components = components(Database.class, Repository.class);
+
+            assertThatThrownBy(() -> graph.layers(components, dependencies(Map.of(
+                    Database.class, List.of(Repository.class),
+                    Repository.class, List.of(Database.class)
+            ))))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Database -> Repository -> Database");
+        }
+    }
+
+    private static List<Component<?>> components(Class<?>... types) {
+        return Arrays.stream(types)
+                .<Component<?>>map(type -> component(type, ComponentPriority.NORMAL))
+                .toList();
+    }
+
+    private static Component<?> component(Class<?> type, ComponentPriority priority) {
+        return new Component<>(type, type.getAnnotation(Service.class), priority, 0);
+    }
+
+    private static Function<Component<?>, Collection<Class<?>>> dependencies(
+            Map<Class<?>, List<Class<?>>> dependencies
+    ) {
+        return component -> dependencies.getOrDefault(component.type(), List.of());
+    }
+
+    private static List<Class<?>> types(List<Component<?>> layer) {
+        return layer.stream()
+                .<Class<?>>map(Component::type)
+                .toList();
+    }
+
+    interface Storage {
+    }
+
+    static final class Section {
+    }
+
+    @Service
+    static final class Config {
+        public Section section = new Section();
+    }
+
+    @Service
+    static final class Database implements Storage {
+    }
+
+    @Service
+    static final class Repository {
+    }
+
+    @Service
+    static final class Gui {
+    }
+}
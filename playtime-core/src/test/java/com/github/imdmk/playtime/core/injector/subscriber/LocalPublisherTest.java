@@ -0,0 +1,309 @@
+package com.github.imdmk.playtime.core.injector.subscriber;
+
+import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeInitializeEvent;
+import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeShutdownEvent;
+import com.github.imdmk.playtime.core.injector.subscriber.event.SubscribeEvent;
+import com.github.imdmk.playtime.core.platform.logger.PluginLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.panda_lang.utilities.inject.Injector;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LocalPublisherTest {
+
+    private final List<String> calls = new ArrayList<>();
+    private final LocalPublisher publisher = new LocalPublisher(mock(Injector.class), mock(PluginLogger.class));
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown(Duration.ofSeconds(1));
+    }
+
+    @Nested
+    @DisplayName("Dispatch")
+    class DispatchTests {
+
+        @Test
+        void shouldDeliverToSupertypeSubscribersInSubscribeOrder() {
+            publisher.subscribe(new ChildSubscriber("first"));
+            publisher.subscribe(new BaseSubscriber("second"));
+
+            publisher.publish(new ChildEvent());
+
+            assertThat(calls).containsExactly("first:child", "second:base");
+        }
+
+        @Test
+        void shouldNotDeliverToSubtypeSubscribers() {
+            publisher.subscribe(new ChildSubscriber("first"));
+            publisher.subscribe(new BaseSubscriber("second"));
+
+            publisher.publish(new BaseEvent());
+
+            assertThat(calls).containsExactly("second:base");
+        }
+
+        @Test
+        void shouldSeeSubscribersAddedAfterFirstPublish() {
+            publisher.subscribe(new BaseSubscriber("first"));
+            publisher.publish(new ChildEvent());
+
+            publisher.subscribe(new ChildSubscriber("second"));
+            publisher.publish(new ChildEvent());
+
+            assertThat(calls).containsExactly("first:base", "first:base", "second:child");
+        }
+    }
+
+    @Nested
+    @DisplayName("Lifecycle")
+    class LifecycleTests {
+
+        @Test
+        void shouldDeliverShutdownInReverseSubscribeOrder() {
+            publisher.subscribe(new LifecycleSubscriber("database"));
+            publisher.subscribe(new LifecycleSubscriber("repository"));
+            publisher.subscribe(new LifecycleSubscriber("listener"));
+
+            publisher.publish(new PlayTimeInitializeEvent());
+            publisher.publish(new PlayTimeShutdownEvent());
+
+            assertThat(calls).containsExactly(
+                    "database:initialize", "repository:initialize", "listener:initialize",
+                    "listener:shutdown", "repository:shutdown", "database:shutdown"
+            );
+        }
+
+        @Test
+        void shouldRecordTimingsInDispatchOrder() {
+            publisher.subscribe(new LifecycleSubscriber("database"));
+            publisher.subscribe(new LifecycleSubscriber("repository"));
+
+            publisher.publish(new PlayTimeShutdownEvent());
+
+            assertThat(publisher.timings(PlayTimeShutdownEvent.class))
+                    .extracting(SubscriberTiming::method)
+                    .containsExactly("onShutdown", "onShutdown");
+            assertThat(calls).containsExactly("repository:shutdown", "database:shutdown");
+        }
+    }
+
+    @Nested
+    @DisplayName("Async")
+    class AsyncTests {
+
+        private final ManualExecutor executor = new ManualExecutor();
+        private final LocalPublisher asyncPublisher = new LocalPublisher(
+                mock(Injector.class),
+                mock(PluginLogger.class),
+                executor
+        );
+
+        @Test
+        void shouldDeliverToEachSubscriberInPublishOrder() {
+            AsyncSubscriber first = new AsyncSubscriber();
+            AsyncSubscriber second = new AsyncSubscriber();
+            asyncPublisher.subscribe(first);
+            asyncPublisher.subscribe(second);
+
+            publishNumbered(300);
+            assertThat(first.received).isEmpty();
+            assertThat(executor.scheduled()).isEqualTo(2);
+
+            executor.runAll();
+
+            assertThat(first.received).hasSize(300).isSorted();
+            assertThat(second.received).hasSize(300).isSorted();
+        }
+
+        @Test
+        void shouldDropEventsOnceMailboxIsFull() {
+            AsyncSubscriber subscriber = new AsyncSubscriber();
+            asyncPublisher.subscribe(subscriber);
+
+            publishNumbered(1030);
+
+            assertThat(asyncPublisher.mailboxStats()).singleElement().satisfies(stats -> {
+                assertThat(stats.type()).isEqualTo(AsyncSubscriber.class);
+                assertThat(stats.method()).isEqualTo("onNumbered");
+                assertThat(stats.queued()).isEqualTo(1024);
+                assertThat(stats.capacity()).isEqualTo(1024);
+                assertThat(stats.dropped()).isEqualTo(6);
+            });
+
+            executor.runAll();
+
+            assertThat(subscriber.received).hasSize(1024).isSorted().endsWith(1023);
+            assertThat(asyncPublisher.mailboxStats()).singleElement()
+                    .extracting(SubscriberMailboxStats::queued)
+                    .isEqualTo(0);
+        }
+
+        @Test
+        void shouldDrainQueuedEventsOnShutdown() {
+            AsyncSubscriber subscriber = new AsyncSubscriber();
+            asyncPublisher.subscribe(subscriber);
+
+            publishNumbered(300);
+            asyncPublisher.shutdown(Duration.ofSeconds(1));
+
+            assertThat(subscriber.received).hasSize(300).isSorted();
+        }
+
+        @Test
+        void shouldNotReportSyncSubscribers() {
+            asyncPublisher.subscribe(new BaseSubscriber("sync"));
+            asyncPublisher.subscribe(new AsyncSubscriber());
+
+            assertThat(asyncPublisher.mailboxStats())
+                    .extracting(SubscriberMailboxStats::type)
+                    .containsExactly(AsyncSubscriber.class);
+        }
+
+        private void publishNumbered(int count) {
+            for (int i = 0; i < count; i++) {
+                asyncPublisher.publish(new NumberedEvent(i));
+            }
+        }
+    }
+
+    static class BaseEvent extends SubscribeEvent {
+    }
+
+    static final class ChildEvent extends BaseEvent {
+    }
+
+    static final class NumberedEvent extends SubscribeEvent {
+
+        private final int number;
+
+        NumberedEvent(int number) {
+            this.number = number;
+        }
+    }
+
+    private static final class AsyncSubscriber {
+
+        private final List<Integer> received = new ArrayList<>();
+
+        @Subscribe(event = NumberedEvent.class, async = true)
+        void onNumbered(NumberedEvent event) {
+            received.add(event.number);
+        }
+    }
+
+    private final class BaseSubscriber {
+
+        private final String name;
+
+        private BaseSubscriber(String name) {
+            this.name = name;
+        }
+
+        @Subscribe(event = BaseEvent.class)
+        void onBase() {
+            calls.add(name + ":base");
+        }
+    }
+
+    private final class ChildSubscriber {
+
+        private final String name;
+
+        private ChildSubscriber(String name) {
+            this.name = name;
+        }
+
+        @Subscribe(event = ChildEvent.class)
+        void onChild(ChildEvent event) {
+            calls.add(name + ":child");
+        }
+    }
+
+    private final class LifecycleSubscriber {
+
+        private final String name;
+
+        private LifecycleSubscriber(String name) {
+            this.name = name;
+        }
+
+        @Subscribe(event = PlayTimeInitializeEvent.class)
+        void onInitialize() {
+            calls.add(name + ":initialize");
+        }
+
+        @Subscribe(event = PlayTimeShutdownEvent.class)
+        void onShutdown() {
+            calls.add(name + ":shutdown");
+        }
+    }
+
+    // runs scheduled drains only when asked, awaitTermination drains whatever is left like the real pool would
+    private static final class ManualExecutor extends AbstractExecutorService {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            if (shutdown) {
+                throw new RejectedExecutionException("shut down");
+            }
+            tasks.add(command);
+        }
+
+        int scheduled() {
+            return tasks.size();
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            List<Runnable> remaining = new ArrayList<>(tasks);
+            tasks.clear();
+            return remaining;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown && tasks.isEmpty();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            runAll();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.imdmk.playtime.core.injector.subscriber;
+
+import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeInitializeEvent;
+import com.github.imdmk.playtime.core.injector.subscriber.event.PlayTimeShutdownEvent;
+import com.github.imdmk.playtime.core.injector.subscriber.event.SubscribeEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.panda_lang.utilities.inject.Injector;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SubscriberInvokerTest {
+
+    private final Injector injector = mock(Injector.class);
+
+    @Nested
+    @DisplayName("Method handle")
+    class HandleTests {
+
+        @Test
+        void shouldInvokeMethodWithoutParameters() throws NoSuchMethodException {
+            Recorder recorder = new Recorder();
+
+            invoker(recorder, "onNothing", PlayTimeInitializeEvent.class).invoke(new PlayTimeInitializeEvent());
+
+            assertThat(recorder.calls).containsExactly("onNothing");
+            verifyNoInteractions(injector);
+        }
+
+        @Test
+        void shouldPassEventToPrivateMethod() throws NoSuchMethodException {
+            Recorder recorder = new Recorder();
+            PlayTimeInitializeEvent event = new PlayTimeInitializeEvent();
+
+            invoker(recorder, "onInitialize", PlayTimeInitializeEvent.class).invoke(event);
+
+            assertThat(recorder.calls).containsExactly("onInitialize");
+            assertThat(recorder.events).containsExactly(event);
+            verifyNoInteractions(injector);
+        }
+
+        @Test
+        void shouldPassEventToSupertypeParameter() throws NoSuchMethodException {
+            Recorder recorder = new Recorder();
+            PlayTimeShutdownEvent event = new PlayTimeShutdownEvent();
+
+            invoker(recorder, "onAny", PlayTimeShutdownEvent.class).invoke(event);
+
+            assertThat(recorder.events).containsExactly(event);
+            verifyNoInteractions(injector);
+        }
+
+        @Test
+        void shouldRethrowRuntimeExceptionsUnwrapped() throws NoSuchMethodException {
+            SubscriberInvoker invoker = invoker(new Recorder(), "onFailure", PlayTimeInitializeEvent.class);
+
+            assertThatThrownBy(() -> invoker.invoke(new PlayTimeInitializeEvent()))
+                    .isExactlyInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("boom");
+        }
+
+        @Test
+        void shouldWrapCheckedExceptions() throws NoSuchMethodException {
+            SubscriberInvoker invoker = invoker(new Recorder(), "onChecked", PlayTimeInitializeEvent.class);
+
+            assertThatThrownBy(() -> invoker.invoke(new PlayTimeInitializeEvent()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Recorder#onChecked")
+                    .hasCauseInstanceOf(Exception.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Injector fallback")
+    class FallbackTests {
+
+        @Test
+        void shouldUseInjectorForExtraParameters() throws NoSuchMethodException {
+            Recorder recorder = new Recorder();
+            Method method = Recorder.class.getDeclaredMethod("onInjected", PlayTimeInitializeEvent.class, String.class);
+            PlayTimeInitializeEvent event = new PlayTimeInitializeEvent();
+
+            SubscriberInvoker.create(injector, recorder, method, PlayTimeInitializeEvent.class, 0).invoke(event);
+
+            verify(injector).invokeMethod(method, recorder, event);
+            assertThat(recorder.calls).isEmpty();
+        }
+
+        @Test
+        void shouldUseInjectorWhenParameterDoesNotMatchEvent() throws NoSuchMethodException {
+            Recorder recorder = new Recorder();
+            Method method = Recorder.class.getDeclaredMethod("onInitialize", PlayTimeInitializeEvent.class);
+            PlayTimeShutdownEvent event = new PlayTimeShutdownEvent();
+
+            SubscriberInvoker.create(injector, recorder, method, PlayTimeShutdownEvent.class, 0).invoke(event);
+
+            verify(injector).invokeMethod(method, recorder, event);
+            assertThat(recorder.calls).isEmpty();
+        }
+    }
+
+    private SubscriberInvoker invoker(
+            Recorder recorder,
+            String name,
+            Class<? extends SubscribeEvent> event
+    ) throws NoSuchMethodException {
+        Method method = findMethod(name);
+        return SubscriberInvoker.create(injector, recorder, method, event, 0);
+    }
+
+    private static Method findMethod(String name) throws NoSuchMethodException {
+        for (Method method : Recorder.class.getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+
+        throw new NoSuchMethodException(name);
+    }
+
+    private static final class Recorder {
+
+        private final List<String> calls = new ArrayList<>();
+        private final List<SubscribeEvent> events = new ArrayList<>();
+
+        void onNothing() {
+            calls.add("onNothing");
+        }
+
+        private void onInitialize(PlayTimeInitializeEvent event) {
+            calls.add("onInitialize");
+            events.add(event);
+        }
+
+        void onAny(SubscribeEvent event) {
+            events.add(event);
+        }
+
+        void onFailure() {
+            throw new IllegalArgumentException("boom");
+        }
+
+        void onChecked() throws Exception {
+            throw new Exception("checked");
+        }
+
+        void onInjected(PlayTimeInitializeEvent event, String extra) {
+            calls.add("onInjected");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.imdmk.playtime.core.platform.adventure;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AdventureTemplateTest {
+
+    private static final String[] KEYS = {"{PLAYER_NAME}", "{PLAYER_POSITION}", "{PLAYER_PLAYTIME}"};
+
+    @Nested
+    @DisplayName("Rendering")
+    class RenderingTests {
+
+        @Test
+        void shouldMatchAdventureFormatter() {
+            Component input = AdventureComponents.notItalic("<dark_gray>• <yellow>#{PLAYER_POSITION} <gray>- <red>{PLAYER_NAME}");
+            AdventurePlaceholders placeholders = AdventurePlaceholders.builder()
+                    .with("{PLAYER_NAME}", "Notch")
+                    .with("{PLAYER_POSITION}", 1)
+                    .with("{PLAYER_PLAYTIME}", "5 seconds")
+                    .build();
+
+            Component rendered = AdventureTemplate.compile(input, KEYS).render(
+                    Component.text("Notch"),
+                    Component.text("1"),
+                    Component.text("5 seconds")
+            );
+
+            assertThat(plain(rendered)).isEqualTo(plain(AdventureFormatter.format(input, placeholders)));
+        }
+
+        @Test
+        void shouldFillRepeatedAndAdjacentSlots() {
+            AdventureTemplate template = AdventureTemplate.compile(Component.text("{A}{B} and {A}"), "{A}", "{B}");
+
+            assertThat(plain(template.render(Component.text("x"), Component.text("y")))).isEqualTo("xy and x");
+        }
+
+        @Test
+        void shouldPreferLongerKeys() {
+            AdventureTemplate template = AdventureTemplate.compile(Component.text("{NAME}{NAME_RAW}"), "{NAME}", "{NAME_RAW}");
+
+            assertThat(plain(template.render(Component.text("a"), Component.text("b")))).isEqualTo("ab");
+        }
+
+        @Test
+        void shouldKeepParentStyle() {
+            Component input = Component.text("Hi {A}!", NamedTextColor.RED);
+
+            Component rendered = AdventureTemplate.compile(input, "{A}").render(Component.text("x"));
+
+            assertThat(rendered.color()).isEqualTo(NamedTextColor.RED);
+            assertThat(plain(rendered)).isEqualTo("Hi x!");
+        }
+    }
+
+    @Nested
+    @DisplayName("Compilation")
+    class CompilationTests {
+
+        @Test
+        void shouldReuseComponentWithoutPlaceholders() {
+            Component input = Component.text("static", NamedTextColor.GRAY);
+
+            assertThat(AdventureTemplate.compile(input, KEYS).render(
+                    Component.empty(),
+                    Component.empty(),
+                    Component.empty()
+            )).isSameAs(input);
+        }
+
+        @Test
+        void shouldRejectWrongValueCount() {
+            AdventureTemplate template = AdventureTemplate.compile(Component.text("{A}"), "{A}");
+
+            assertThatThrownBy(() -> template.render()).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldRenderLore() {
+            List<AdventureTemplate> lore = AdventureTemplate.compile(
+                    List.of(Component.text(" "), Component.text("PlayTime: {A}")),
+                    "{A}"
+            );
+
+            assertThat(AdventureTemplate.render(lore, Component.text("1 day")))
+                    .extracting(AdventureTemplateTest::plain)
+                    .containsExactly(" ", "PlayTime: 1 day");
+        }
+    }
+
+    private static String plain(Component component) {
+        StringBuilder builder = new StringBuilder();
+        append(component, builder);
+        return builder.toString();
+    }
+
+    private static void append(Component component, StringBuilder builder) {
+        if (component instanceof TextComponent text) {
+            builder.append(text.content());
+        }
+
+        for (Component child : component.children()) {
+            append(child, builder);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.imdmk.playtime.core.time;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DurationFormatterTest {
+
+    private static final String PATTERN =
+            "%d {day|days} %h {hour|hours} %m {minute|minutes} %s {second|seconds} %ms {milliseconds|millisecond}";
+
+    private final DurationFormatter formatter = new DurationFormatter(PATTERN, ", ", " and ", "<1 second");
+
+    @Nested
+    @DisplayName("Millis")
+    class MillisTests {
+
+        @Test
+        void shouldReturnZeroForNonPositive() {
+            assertThat(formatter.format(0L)).isEqualTo("<1 second");
+            assertThat(formatter.format(-5L)).isEqualTo("<1 second");
+        }
+
+        @Test
+        void shouldFormatSingleUnit() {
+            assertThat(formatter.format(1_000L)).isEqualTo("1 second");
+            assertThat(formatter.format(7_200_000L)).isEqualTo("2 hours");
+        }
+
+        @Test
+        void shouldUseLastSeparatorBeforeLastUnit() {
+            assertThat(formatter.format(97_445_123L)).isEqualTo("1 day, 3 hours, 4 minutes and 5 seconds");
+            assertThat(formatter.format(86_400_000L + 5_000L)).isEqualTo("1 day and 5 seconds");
+        }
+
+        @Test
+        void shouldOnlyShowMillisUnderOneSecond() {
+            assertThat(formatter.format(450L)).isEqualTo("450 millisecond");
+            assertThat(formatter.format(1_450L)).isEqualTo("1 second");
+        }
+
+        @Test
+        void shouldKeepPatternWithoutSpace() {
+            DurationFormatter compact = new DurationFormatter("%h{h|h} %m{m|m}", " ", " ", "0m");
+
+            assertThat(compact.format(3_900_000L)).isEqualTo("1h 5m");
+            assertThat(compact.format(30_000L)).isEqualTo("0m");
+        }
+    }
+
+    @Nested
+    @DisplayName("Duration")
+    class DurationTests {
+
+        @Test
+        void shouldMatchMillisOverload() {
+            Random random = new Random(42);
+            for (int i = 0; i < 10_000; i++) {
+                long millis = random.nextLong(10_000_000_000L);
+
+                assertThat(formatter.format(Duration.ofMillis(millis))).isEqualTo(formatter.format(millis));
+            }
+        }
+
+        @Test
+        void shouldIgnoreSubMillisecondPart() {
+            assertThat(formatter.format(Duration.ofNanos(500))).isEqualTo("<1 second");
+            assertThat(formatter.format(Duration.ofMillis(2_000L).plusNanos(999_999))).isEqualTo("2 seconds");
+        }
+    }
+
+    @Nested
+    @DisplayName("Stability")
+    class StabilityTests {
+
+        @Test
+        void shouldHoldUntilNextSecond() {
+            assertThat(formatter.stableFor(97_445_123L)).isEqualTo(877L);
+            assertThat(formatter.stableFor(5_000L)).isEqualTo(1_000L);
+        }
+
+        @Test
+        void shouldChangeEveryMillisecondBelowOneSecond() {
+            assertThat(formatter.stableFor(0L)).isEqualTo(1L);
+            assertThat(formatter.stableFor(999L)).isEqualTo(1L);
+        }
+
+        @Test
+        void shouldUseSmallestPatternUnit() {
+            DurationFormatter compact = new DurationFormatter("%h{h|h} %m{m|m}", " ", " ", "0m");
+
+            assertThat(compact.stableFor(30_000L)).isEqualTo(30_000L);
+            assertThat(compact.stableFor(3_900_000L)).isEqualTo(60_000L);
+        }
+
+        @Test
+        void shouldNotChangeWithinStableWindow() {
+            Random random = new Random(7);
+            for (int i = 0; i < 10_000; i++) {
+                long millis = random.nextLong(10_000_000_000L);
+                long stable = formatter.stableFor(millis);
+
+                assertThat(formatter.format(millis + stable - 1)).isEqualTo(formatter.format(millis));
+                assertThat(formatter.format(millis + stable)).isNotEqualTo(formatter.format(millis));
+            }
+        }
+    }
+}
@@ -2,4 +2,5 @@ rootProject.name = "AdvancedPlayTime"
 
 include("playtime-api")
 include("playtime-core")
-include("playtime-plugin")
\ No newline at end of file
+include("playtime-plugin")
+include("playtime-benchmarks")
\ No newline at end of file